@@ -0,0 +1,48 @@
+package de.plushnikov.intellij.plugin.action;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
+
+import java.io.IOException;
+
+/**
+ * Shows collected metrics of the plugin and allows to save them to a file or to reset them
+ */
+public class LombokPerformanceAction extends AnAction {
+  private static final String TITLE = "Lombok Performance";
+
+  private static final int SAVE_OPTION = 0;
+  private static final int RESET_OPTION = 1;
+
+  @Override
+  public void actionPerformed(AnActionEvent e) {
+    final Project project = getEventProject(e);
+    final String metrics = LombokMetrics.dump();
+
+    final int option = Messages.showDialog(project, metrics, TITLE, new String[]{"Save to File...", "Reset", "Close"}, 2, Messages.getInformationIcon());
+    if (SAVE_OPTION == option) {
+      saveToFile(project, metrics);
+    } else if (RESET_OPTION == option) {
+      LombokMetrics.reset();
+    }
+  }
+
+  private void saveToFile(Project project, String metrics) {
+    final FileSaverDescriptor descriptor = new FileSaverDescriptor(TITLE, "Save collected metrics of the lombok plugin", "txt");
+    final VirtualFileWrapper fileWrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project).save(null, "lombok-metrics.txt");
+    if (null != fileWrapper) {
+      try {
+        FileUtil.writeToFile(fileWrapper.getFile(), metrics);
+      } catch (IOException ex) {
+        Messages.showErrorDialog(project, "Unable to save metrics: " + ex.getMessage(), TITLE);
+      }
+    }
+  }
+}
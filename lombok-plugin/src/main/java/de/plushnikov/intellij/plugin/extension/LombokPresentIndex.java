@@ -0,0 +1,176 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.openapi.fileTypes.StdFileTypes;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWithId;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.ProjectScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.intellij.util.text.CharArrayUtil;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persistent index of all java source files, which reference something from the lombok package
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokPresentIndex extends ScalarIndexExtension<String> {
+  public static final ID<String, Void> NAME = ID.create("de.plushnikov.lombok.LombokPresentIndex");
+
+  private static final String LOMBOK_KEY = "lombok";
+  private static final String LOMBOK_PACKAGE_PREFIX = "lombok.";
+
+  private static final int INDEX_VERSION = 1;
+
+  private static final Key<CachedValue<Set<VirtualFile>>> LOMBOK_LIBRARY_ROOTS_KEY = Key.create("lombok.library.source.roots");
+
+  private final DataIndexer<String, Void, FileContent> myIndexer = new DataIndexer<String, Void, FileContent>() {
+    @NotNull
+    @Override
+    public Map<String, Void> map(FileContent inputData) {
+      final CharSequence contentAsText = inputData.getContentAsText();
+      if (CharArrayUtil.indexOf(contentAsText, LOMBOK_PACKAGE_PREFIX, 0) >= 0) {
+        return Collections.singletonMap(LOMBOK_KEY, null);
+      }
+      return Collections.emptyMap();
+    }
+  };
+
+  private final FileBasedIndex.InputFilter myInputFilter = new FileBasedIndex.InputFilter() {
+    @Override
+    public boolean acceptInput(VirtualFile file) {
+      return file.getFileType() == StdFileTypes.JAVA;
+    }
+  };
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return myIndexer;
+  }
+
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return myInputFilter;
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return INDEX_VERSION;
+  }
+
+  /**
+   * Checks if the file containing given element possibly uses lombok.
+   * Returns true for every file which is not covered by the index, so it can be processed as before.
+   */
+  public static boolean isLombokPossiblePresent(@NotNull PsiElement element) {
+    LombokMetrics.count(LombokMetrics.PRESENT_CHECKS);
+    final PsiFile containingFile = element.getContainingFile();
+    if (null == containingFile) {
+      return true;
+    }
+    // non physical copies (for example used by code completion) have no own virtual file
+    final VirtualFile virtualFile = containingFile.getOriginalFile().getVirtualFile();
+    if (!(virtualFile instanceof VirtualFileWithId)) {
+      return true;
+    }
+
+    final Project project = element.getProject();
+    final ProjectFileIndex fileIndex = ProjectRootManager.getInstance(project).getFileIndex();
+    if (fileIndex.isInLibrarySource(virtualFile)) {
+      final VirtualFile sourceRoot = fileIndex.getSourceRootForFile(virtualFile);
+      if (null != sourceRoot && !getLombokLibrarySourceRoots(project).contains(sourceRoot)) {
+        return false;
+      }
+    } else if (!fileIndex.isInContent(virtualFile)) {
+      return true;
+    }
+
+    return isLombokPresentInFile(project, virtualFile);
+  }
+
+  /**
+   * Returns all java files of given scope, which possibly use lombok. Must be called inside of read action.
+   */
+  @NotNull
+  public static Collection<VirtualFile> getLombokFiles(@NotNull GlobalSearchScope searchScope) {
+    return FileBasedIndex.getInstance().getContainingFiles(NAME, LOMBOK_KEY, searchScope);
+  }
+
+  /**
+   * Returns all library source roots containing at least one file using lombok.
+   * Cached per project until project roots are changed.
+   */
+  @NotNull
+  private static Set<VirtualFile> getLombokLibrarySourceRoots(@NotNull final Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, LOMBOK_LIBRARY_ROOTS_KEY, new CachedValueProvider<Set<VirtualFile>>() {
+      @Override
+      public Result<Set<VirtualFile>> compute() {
+        final ProjectRootManager projectRootManager = ProjectRootManager.getInstance(project);
+        final ProjectFileIndex fileIndex = projectRootManager.getFileIndex();
+
+        final Set<VirtualFile> result = new HashSet<VirtualFile>();
+        final Collection<VirtualFile> lombokFiles = FileBasedIndex.getInstance().getContainingFiles(NAME, LOMBOK_KEY, ProjectScope.getLibrariesScope(project));
+        for (VirtualFile lombokFile : lombokFiles) {
+          final VirtualFile sourceRoot = fileIndex.getSourceRootForFile(lombokFile);
+          if (null != sourceRoot) {
+            result.add(sourceRoot);
+          }
+        }
+        return Result.create(result, projectRootManager);
+      }
+    }, false);
+  }
+
+  private static boolean isLombokPresentInFile(@NotNull Project project, @NotNull VirtualFile virtualFile) {
+    final long startTime = System.nanoTime();
+    final boolean[] found = new boolean[]{false};
+    FileBasedIndex.getInstance().processValues(NAME, LOMBOK_KEY, virtualFile, new FileBasedIndex.ValueProcessor<Void>() {
+      @Override
+      public boolean process(VirtualFile file, Void value) {
+        found[0] = true;
+        return false;
+      }
+    }, GlobalSearchScope.allScope(project));
+    LombokMetrics.time(LombokMetrics.PRESENT_INDEX_LOOKUPS, System.nanoTime() - startTime);
+    return found[0];
+  }
+}
@@ -1,10 +1,19 @@
 package de.plushnikov.intellij.plugin.extension;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
+import com.intellij.openapi.util.text.StringUtil;
 import de.plushnikov.intellij.plugin.processor.Processor;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Date: 21.07.13 Time: 12:54
@@ -14,6 +23,11 @@ public class LombokProcessorExtensionPoint {
 
   private static Collection<String> LOMBOK_ANNOTATIONS;
 
+  private static volatile ProcessorMapping PROCESSOR_MAPPING;
+
+  private static final ConcurrentMap<Class<? extends Processor>, Processor> UNREGISTERED_PROCESSORS =
+      new ConcurrentHashMap<Class<? extends Processor>, Processor>();
+
   public static Collection<String> getAllOfProcessedLombokAnnotation() {
     if (null != LOMBOK_ANNOTATIONS) {
       return LOMBOK_ANNOTATIONS;
@@ -28,4 +42,100 @@ public class LombokProcessorExtensionPoint {
     return LOMBOK_ANNOTATIONS;
   }
 
+  /**
+   * Checks if an annotation with given short name can be processed by any of registered processors
+   */
+  public static boolean isPossibleLombokAnnotation(@NotNull String shortName) {
+    return getProcessorMapping().qualifiedNames.containsKey(shortName);
+  }
+
+  /**
+   * Returns qualified names of all processed annotations with given short name
+   */
+  @NotNull
+  public static Collection<String> getQualifiedNames(@NotNull String shortName) {
+    final Collection<String> qualifiedNames = getProcessorMapping().qualifiedNames.get(shortName);
+    return null == qualifiedNames ? Collections.<String>emptyList() : qualifiedNames;
+  }
+
+  /**
+   * Returns all registered processors for annotation with given qualified name, in order of their registration
+   */
+  @NotNull
+  public static List<Processor> getProcessors(@NotNull String qualifiedName) {
+    final List<Processor> processors = getProcessorMapping().processors.get(qualifiedName);
+    return null == processors ? Collections.<Processor>emptyList() : processors;
+  }
+
+  /**
+   * Returns position of the processor in the extension point, used to keep processing order stable
+   */
+  public static int getProcessorOrder(@NotNull Processor processor) {
+    final Integer order = getProcessorMapping().order.get(processor);
+    return null == order ? Integer.MAX_VALUE : order;
+  }
+
+  /**
+   * Returns registered instance of the processor class, so processors can delegate to each other without creating new instances.
+   * Processors not registered in the extension point (e.g. in tests) are created once on first request
+   */
+  @NotNull
+  public static <T extends Processor> T getProcessor(@NotNull Class<T> processorClass) {
+    Processor processor = getProcessorMapping().instances.get(processorClass);
+    if (null == processor) {
+      processor = UNREGISTERED_PROCESSORS.get(processorClass);
+      if (null == processor) {
+        try {
+          processor = processorClass.newInstance();
+        } catch (Exception ex) {
+          throw new IllegalStateException("Unable to create processor " + processorClass.getName(), ex);
+        }
+        final Processor existingProcessor = UNREGISTERED_PROCESSORS.putIfAbsent(processorClass, processor);
+        if (null != existingProcessor) {
+          processor = existingProcessor;
+        }
+      }
+    }
+    return processorClass.cast(processor);
+  }
+
+  private static ProcessorMapping getProcessorMapping() {
+    ProcessorMapping mapping = PROCESSOR_MAPPING;
+    if (null == mapping) {
+      mapping = new ProcessorMapping(EP_NAME.getExtensions());
+      PROCESSOR_MAPPING = mapping;
+    }
+    return mapping;
+  }
+
+  private static class ProcessorMapping {
+    private final Map<String, List<Processor>> processors = new HashMap<String, List<Processor>>();
+    private final Map<String, Collection<String>> qualifiedNames = new HashMap<String, Collection<String>>();
+    private final Map<Processor, Integer> order = new HashMap<Processor, Integer>();
+    private final Map<Class<? extends Processor>, Processor> instances = new HashMap<Class<? extends Processor>, Processor>();
+
+    private ProcessorMapping(Processor[] extensions) {
+      for (int i = 0; i < extensions.length; i++) {
+        final Processor processor = extensions[i];
+        final String annotationName = processor.getSupportedAnnotation();
+
+        List<Processor> processorList = processors.get(annotationName);
+        if (null == processorList) {
+          processorList = new ArrayList<Processor>();
+          processors.put(annotationName, processorList);
+        }
+        processorList.add(processor);
+
+        final String shortName = StringUtil.getShortName(annotationName);
+        Collection<String> qualifiedNameList = qualifiedNames.get(shortName);
+        if (null == qualifiedNameList) {
+          qualifiedNameList = new LinkedHashSet<String>();
+          qualifiedNames.put(shortName, qualifiedNameList);
+        }
+        qualifiedNameList.add(annotationName);
+        order.put(processor, i);
+        instances.put(processor.getClass(), processor);
+      }
+    }
+  }
 }
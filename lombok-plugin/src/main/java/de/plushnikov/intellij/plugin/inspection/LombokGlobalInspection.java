@@ -0,0 +1,155 @@
+package de.plushnikov.intellij.plugin.inspection;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInsight.daemon.GroupNames;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.GlobalInspectionTool;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemDescriptionsProcessor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.reference.RefEntity;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.Processor;
+import de.plushnikov.intellij.plugin.extension.LombokPresentIndex;
+import de.plushnikov.intellij.plugin.problem.LombokProblem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Whole project variant of {@link LombokInspection} for offline analysis.
+ * Inspects only files found by {@link LombokPresentIndex}, in parallel read actions, and reports all problems at once.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokGlobalInspection extends GlobalInspectionTool {
+  private static final Logger LOG = Logger.getInstance(LombokGlobalInspection.class.getName());
+
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Lombok annotations inspection (whole project)";
+  }
+
+  @NotNull
+  @Override
+  public String getGroupDisplayName() {
+    return GroupNames.BUGS_GROUP_NAME;
+  }
+
+  @NotNull
+  @Override
+  public String getShortName() {
+    return "LombokGlobal";
+  }
+
+  @Override
+  public boolean isEnabledByDefault() {
+    // reports the same problems as the local inspection, which is enabled by default
+    return false;
+  }
+
+  @Override
+  public boolean isGraphNeeded() {
+    return false;
+  }
+
+  @Override
+  public void runInspection(@NotNull final AnalysisScope scope, @NotNull final InspectionManager manager,
+                            @NotNull final GlobalInspectionContext globalContext,
+                            @NotNull final ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+    final Project project = manager.getProject();
+    final PsiManager psiManager = PsiManager.getInstance(project);
+
+    final List<VirtualFile> lombokFiles = ApplicationManager.getApplication().runReadAction(new Computable<List<VirtualFile>>() {
+      @Override
+      public List<VirtualFile> compute() {
+        final List<VirtualFile> result = new ArrayList<VirtualFile>();
+        for (VirtualFile virtualFile : LombokPresentIndex.getLombokFiles(GlobalSearchScope.projectScope(project))) {
+          if (scope.contains(virtualFile)) {
+            result.add(virtualFile);
+          }
+        }
+        return result;
+      }
+    });
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(String.format("LombokGlobalInspection found %d files using lombok", lombokFiles.size()));
+    }
+    if (lombokFiles.isEmpty()) {
+      return;
+    }
+
+    final ConcurrentMap<VirtualFile, List<ProblemDescriptor>> fileProblems = new ConcurrentHashMap<VirtualFile, List<ProblemDescriptor>>();
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(lombokFiles, ProgressManager.getInstance().getProgressIndicator(), false,
+        new Processor<VirtualFile>() {
+          @Override
+          public boolean process(final VirtualFile virtualFile) {
+            ProgressManager.checkCanceled();
+            final List<ProblemDescriptor> problems = ApplicationManager.getApplication().runReadAction(new Computable<List<ProblemDescriptor>>() {
+              @Override
+              public List<ProblemDescriptor> compute() {
+                return inspectFile(virtualFile.isValid() ? psiManager.findFile(virtualFile) : null, manager);
+              }
+            });
+            if (!problems.isEmpty()) {
+              fileProblems.put(virtualFile, problems);
+            }
+            return true;
+          }
+        });
+
+    // problem descriptions processor is not thread safe, so all problems are reported together afterwards
+    ApplicationManager.getApplication().runReadAction(new Runnable() {
+      @Override
+      public void run() {
+        for (VirtualFile virtualFile : lombokFiles) {
+          final List<ProblemDescriptor> problems = fileProblems.get(virtualFile);
+          final PsiFile psiFile = null == problems || !virtualFile.isValid() ? null : psiManager.findFile(virtualFile);
+          final RefEntity refEntity = null == psiFile ? null : globalContext.getRefManager().getReference(psiFile);
+          if (null != refEntity) {
+            problemDescriptionsProcessor.addProblemElement(refEntity, problems.toArray(new CommonProblemDescriptor[problems.size()]));
+          }
+        }
+      }
+    });
+  }
+
+  @NotNull
+  private List<ProblemDescriptor> inspectFile(@Nullable PsiFile psiFile, @NotNull final InspectionManager manager) {
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return Collections.emptyList();
+    }
+
+    final List<ProblemDescriptor> result = new ArrayList<ProblemDescriptor>();
+    psiFile.accept(new JavaRecursiveElementWalkingVisitor() {
+      @Override
+      public void visitAnnotation(PsiAnnotation annotation) {
+        super.visitAnnotation(annotation);
+
+        for (LombokProblem problem : LombokInspection.verifyAnnotation(annotation)) {
+          result.add(manager.createProblemDescriptor(annotation, problem.getMessage(), false, problem.getQuickFixes(), problem.getHighlightType()));
+        }
+      }
+    });
+    return result;
+  }
+}
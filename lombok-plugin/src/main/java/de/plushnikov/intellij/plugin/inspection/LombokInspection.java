@@ -7,16 +7,19 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiReferenceExpression;
+import de.plushnikov.intellij.plugin.extension.LombokPresentIndex;
 import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.processor.Processor;
-import gnu.trove.THashMap;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.Collections;
 
 /**
  * @author Plushnikov Michail
@@ -24,19 +27,11 @@ import java.util.Map;
 public class LombokInspection extends BaseJavaLocalInspectionTool {
   private static final Logger LOG = Logger.getInstance(LombokInspection.class.getName());
 
-  private final Map<String, Collection<Processor>> allProblemHandlers;
-
   public LombokInspection() {
-    allProblemHandlers = new THashMap<String, Collection<Processor>>();
-    for (Processor lombokInspector : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
-      Collection<Processor> inspectorCollection = allProblemHandlers.get(lombokInspector.getSupportedAnnotation());
-      if (null == inspectorCollection) {
-        inspectorCollection = new ArrayList<Processor>(2);
-        allProblemHandlers.put(lombokInspector.getSupportedAnnotation(), inspectorCollection);
+    if (LOG.isDebugEnabled()) {
+      for (Processor lombokInspector : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
+        LOG.debug(String.format("LombokInspection registered %s inspector", lombokInspector));
       }
-      inspectorCollection.add(lombokInspector);
-
-      LOG.debug(String.format("LombokInspection registered %s inspector", lombokInspector));
     }
   }
 
@@ -66,6 +61,11 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
   @NotNull
   @Override
   public PsiElementVisitor buildVisitor(@NotNull final ProblemsHolder holder, final boolean isOnTheFly) {
+    // files without any lombok import or usage can not contain lombok annotations
+    if (!LombokPresentIndex.isLombokPossiblePresent(holder.getFile())) {
+      return PsiElementVisitor.EMPTY_VISITOR;
+    }
+
     return new JavaElementVisitor() {
       @Override
       public void visitReferenceExpression(PsiReferenceExpression expression) {
@@ -76,16 +76,45 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
       public void visitAnnotation(PsiAnnotation annotation) {
         super.visitAnnotation(annotation);
 
-        final String qualifiedName = annotation.getQualifiedName();
-        if (null != qualifiedName && allProblemHandlers.containsKey(qualifiedName)) {
-          for (Processor inspector : allProblemHandlers.get(qualifiedName)) {
-            Collection<LombokProblem> problems = inspector.verifyAnnotation(annotation);
-            for (LombokProblem problem : problems) {
-              holder.registerProblem(annotation, problem.getMessage(), problem.getHighlightType(), problem.getQuickFixes());
-            }
-          }
+        for (LombokProblem problem : verifyAnnotation(annotation)) {
+          holder.registerProblem(annotation, problem.getMessage(), problem.getHighlightType(), problem.getQuickFixes());
         }
       }
     };
   }
+
+  /**
+   * Verifies the annotation by all processors registered for it, returns nothing for annotations not processed by lombok
+   */
+  @NotNull
+  static Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation annotation) {
+    final PsiModifierListOwner annotationOwner = PsiAnnotationUtil.getAnnotationOwner(annotation);
+    if (null == annotationOwner) {
+      return Collections.emptyList();
+    }
+
+    final Collection<LombokProblem> result = new ArrayList<LombokProblem>();
+    for (Processor inspector : getProcessors(annotation)) {
+      result.addAll(inspector.verifyAnnotation(annotation, annotationOwner));
+    }
+    return result;
+  }
+
+  /**
+   * Returns all processors registered for the annotation, rejecting other annotations by their short name without resolving them
+   */
+  @NotNull
+  public static Collection<Processor> getProcessors(@NotNull PsiAnnotation annotation) {
+    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+    final String referenceName = null == referenceElement ? null : referenceElement.getReferenceName();
+    if (null == referenceName || !LombokProcessorExtensionPoint.isPossibleLombokAnnotation(referenceName)) {
+      return Collections.emptyList();
+    }
+
+    final String qualifiedName = PsiAnnotationUtil.findQualifiedName(annotation, LombokProcessorExtensionPoint.getQualifiedNames(referenceName));
+    if (null == qualifiedName) {
+      return Collections.emptyList();
+    }
+    return LombokProcessorExtensionPoint.getProcessors(qualifiedName);
+  }
 }
@@ -0,0 +1,121 @@
+package de.plushnikov.intellij.plugin.metrics;
+
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentGuard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application wide counters and timers of the plugin, used to find out which part of lombok support is slow.
+ * Updating them costs only a few atomic operations, so they are always collected.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokMetrics {
+  public static final String AUGMENT_CALLS = "augment.calls.";
+  public static final String AUGMENT_CACHE_REQUESTS = "augment.cache.requests";
+  public static final String AUGMENT_CACHE_MISSES = "augment.cache.misses";
+  public static final String PROCESSOR_CACHE_REQUESTS = "processor.cache.requests";
+  public static final String PROCESSOR_CACHE_MISSES = "processor.cache.misses";
+  public static final String PROCESSOR_COPY_REUSES = "processor.copy.reuses";
+  public static final String PROCESSOR_INCLUSIVE_RUNS = "processor.runs.inclusive.";
+  public static final String PRESENT_CHECKS = "present.checks";
+  public static final String PRESENT_INDEX_LOOKUPS = "present.index.lookups";
+
+  private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<String, Counter>();
+
+  public static void count(@NotNull String name) {
+    getCounter(name).add(0, 0);
+  }
+
+  public static void time(@NotNull String name, long nanos) {
+    getCounter(name).add(nanos, 0);
+  }
+
+  /**
+   * Records one run of the processor with its duration and count of generated elements.
+   * Duration is inclusive: it contains augmentation of other classes started by the processor.
+   */
+  public static void processorRun(@NotNull Processor processor, long nanos, int generatedCount) {
+    getCounter(PROCESSOR_INCLUSIVE_RUNS + processor.getClass().getSimpleName()).add(nanos, generatedCount);
+  }
+
+  public static void reset() {
+    COUNTERS.clear();
+    LombokAugmentGuard.reset();
+  }
+
+  @NotNull
+  private static Counter getCounter(@NotNull String name) {
+    Counter counter = COUNTERS.get(name);
+    if (null == counter) {
+      counter = new Counter();
+      final Counter existingCounter = COUNTERS.putIfAbsent(name, counter);
+      if (null != existingCounter) {
+        counter = existingCounter;
+      }
+    }
+    return counter;
+  }
+
+  /**
+   * Returns all collected values as text, one counter per line, sorted by name
+   */
+  @NotNull
+  public static String dump() {
+    final StringBuilder builder = new StringBuilder();
+    final List<String> names = new ArrayList<String>(COUNTERS.keySet());
+    Collections.sort(names);
+    for (String name : names) {
+      final Counter counter = COUNTERS.get(name);
+      builder.append(name).append(": ").append(counter.count.get());
+      if (counter.nanos.get() > 0) {
+        builder.append(", ").append(TimeUnit.NANOSECONDS.toMillis(counter.nanos.get())).append(" ms");
+      }
+      if (counter.items.get() > 0) {
+        builder.append(", ").append(counter.items.get()).append(" generated");
+      }
+      builder.append('\n');
+    }
+
+    final long cacheRequests = getCount(AUGMENT_CACHE_REQUESTS);
+    final long cacheMisses = getCount(AUGMENT_CACHE_MISSES);
+    builder.append("augment.cache.hits: ").append(cacheRequests - cacheMisses).append('\n');
+    final long processorCacheRequests = getCount(PROCESSOR_CACHE_REQUESTS);
+    final long processorCacheMisses = getCount(PROCESSOR_CACHE_MISSES);
+    builder.append("processor.cache.hits: ").append(processorCacheRequests - processorCacheMisses).append('\n');
+
+    builder.append("augment.guard.nested: ").append(LombokAugmentGuard.getNestedRoundsCount()).append('\n');
+    builder.append("augment.guard.recursive: ").append(LombokAugmentGuard.getRecursiveRoundsCount()).append('\n');
+    builder.append("augment.guard.maxDepth: ").append(LombokAugmentGuard.getMaxDepth()).append('\n');
+    return builder.toString();
+  }
+
+  private static long getCount(@NotNull String name) {
+    final Counter counter = COUNTERS.get(name);
+    return null == counter ? 0 : counter.count.get();
+  }
+
+  private static class Counter {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong items = new AtomicLong();
+
+    private void add(long nanosValue, int itemsValue) {
+      count.incrementAndGet();
+      if (nanosValue > 0) {
+        nanos.addAndGet(nanosValue);
+      }
+      if (itemsValue > 0) {
+        items.addAndGet(itemsValue);
+      }
+    }
+  }
+}
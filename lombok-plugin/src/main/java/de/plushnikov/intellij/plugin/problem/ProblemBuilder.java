@@ -7,6 +7,11 @@ import com.intellij.codeInspection.ProblemHighlightType;
  * @author Plushnikov Michail
  */
 public interface ProblemBuilder {
+  /**
+   * @return false if all added problems are thrown away, so messages and quick fixes don't need to be built at all
+   */
+  boolean isCollecting();
+
   void addWarning(String message);
 
   void addError(String message);
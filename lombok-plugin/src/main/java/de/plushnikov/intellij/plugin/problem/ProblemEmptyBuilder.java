@@ -17,6 +17,10 @@ public class ProblemEmptyBuilder implements ProblemBuilder {
   private ProblemEmptyBuilder() {
   }
 
+  public boolean isCollecting() {
+    return false;
+  }
+
   public void addWarning(String message) {
   }
 
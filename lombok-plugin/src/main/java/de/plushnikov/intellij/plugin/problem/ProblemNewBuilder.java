@@ -15,6 +15,10 @@ public class ProblemNewBuilder implements ProblemBuilder {
     this.target = target;
   }
 
+  public boolean isCollecting() {
+    return true;
+  }
+
   public void addWarning(String message) {
     addProblem(message, ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
   }
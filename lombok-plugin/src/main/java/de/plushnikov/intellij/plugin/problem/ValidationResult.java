@@ -0,0 +1,33 @@
+package de.plushnikov.intellij.plugin.problem;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Result of one validation run of a lombok annotation: verdict and all found problems
+ *
+ * @author Plushnikov Michail
+ */
+public class ValidationResult {
+  private final boolean valid;
+  private final Collection<LombokProblem> problems;
+
+  public ValidationResult(boolean valid, @NotNull Collection<LombokProblem> problems) {
+    this.valid = valid;
+    this.problems = Collections.unmodifiableCollection(problems);
+  }
+
+  /**
+   * @return true if elements for the annotation can be generated
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  @NotNull
+  public Collection<LombokProblem> getProblems() {
+    return problems;
+  }
+}
@@ -1,20 +1,41 @@
 package de.plushnikov.intellij.plugin.processor;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.RecursionGuard;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.Function;
+import de.plushnikov.intellij.plugin.problem.LombokProblem;
+import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
+import de.plushnikov.intellij.plugin.problem.ValidationResult;
 import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentGuard;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Base lombok processor class
@@ -22,6 +43,8 @@ import java.util.List;
  * @author Plushnikov Michail
  */
 public abstract class AbstractProcessor implements Processor {
+  private static final ConcurrentMap<Class, Key<CachedValue<ValidationResult>>> VALIDATION_KEYS = new ConcurrentHashMap<Class, Key<CachedValue<ValidationResult>>>();
+
   /**
    * Anntotation qualified name this processor supports
    */
@@ -70,6 +93,16 @@ public abstract class AbstractProcessor implements Processor {
     return supportedAnnotation.equals(annotationName) && canProduce(type);
   }
 
+  @NotNull
+  @Override
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+    final PsiModifierListOwner psiModifierListOwner = PsiAnnotationUtil.getAnnotationOwner(psiAnnotation);
+    if (null == psiModifierListOwner) {
+      return Collections.emptyList();
+    }
+    return verifyAnnotation(psiAnnotation, psiModifierListOwner);
+  }
+
   @Override
   public boolean isEnabled(@NotNull Project project) {
     return true;//TODO make it configurable
@@ -85,9 +118,100 @@ public abstract class AbstractProcessor implements Processor {
     return Collections.emptyList();
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = new LinkedHashSet<Object>();
+    result.add(psiClass);
+    for (PsiAnnotation psiAnnotation : collectProcessedAnnotations(psiClass)) {
+      if (!PsiAnnotationUtil.hasOnlyLiteralValues(psiAnnotation)) {
+        // referenced constants or annotations are declared somewhere else and can change independently of the class
+        result.add(PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Adds classes of direct supertypes of the given class to dependencies
+   */
+  protected void addSuperClassDependencies(@NotNull PsiClass psiClass, @NotNull Collection<Object> dependencies) {
+    for (PsiClassType superType : psiClass.getSuperTypes()) {
+      addClassDependency(superType.resolve(), dependencies);
+    }
+  }
+
+  /**
+   * Adds the class resolved from the given type and all of its supertypes to dependencies
+   */
+  protected void addTypeHierarchyDependencies(@NotNull PsiType psiType, @NotNull Collection<Object> dependencies) {
+    final PsiClass psiClass = PsiUtil.resolveClassInType(psiType);
+    if (addClassDependency(psiClass, dependencies)) {
+      for (PsiClassType superType : psiClass.getSuperTypes()) {
+        addTypeHierarchyDependencies(superType, dependencies);
+      }
+    }
+  }
+
+  private boolean addClassDependency(@Nullable PsiClass psiClass, @NotNull Collection<Object> dependencies) {
+    if (null == psiClass) {
+      // unresolved types can be resolved after changes anywhere in the project
+      dependencies.add(PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+      return false;
+    }
+    return dependencies.add(psiClass);
+  }
+
   @NotNull
   public abstract Collection<PsiAnnotation> collectProcessedAnnotations(@NotNull PsiClass psiClass);
 
+  /**
+   * Returns result of full validation of the annotation by this processor.
+   * Computed once, during augmentation or inspection, and cached on the annotation until the next structural change.
+   * Results influenced by a prevented recursive augmentation round are not cached.
+   *
+   * @param validation runs validation with given problem builder and returns the verdict
+   */
+  @NotNull
+  protected ValidationResult getValidationResult(@NotNull PsiAnnotation psiAnnotation, @NotNull final Function<ProblemBuilder, Boolean> validation) {
+    return CachedValuesManager.getManager(psiAnnotation.getProject()).getCachedValue(psiAnnotation, getValidationKey(),
+        new CachedValueProvider<ValidationResult>() {
+          @Override
+          public Result<ValidationResult> compute() {
+            final RecursionGuard.StackStamp stamp = LombokAugmentGuard.markStack();
+            final List<LombokProblem> problems = new ArrayList<LombokProblem>(1);
+            final boolean valid = validation.fun(new ProblemNewBuilder(problems));
+            final ValidationResult result = new ValidationResult(valid, problems);
+            if (!stamp.mayCacheNow()) {
+              return Result.create(result, LombokAugmentGuard.getNotCacheableDependency());
+            }
+            return Result.create(result, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  /**
+   * Returns validation verdict for generation of elements.
+   * Problems are collected in the same run and cached, so the inspection doesn't validate the annotation again.
+   */
+  protected boolean isValid(@NotNull PsiAnnotation psiAnnotation, @NotNull Function<ProblemBuilder, Boolean> validation) {
+    return getValidationResult(psiAnnotation, validation).isValid();
+  }
+
+  @NotNull
+  private Key<CachedValue<ValidationResult>> getValidationKey() {
+    Key<CachedValue<ValidationResult>> key = VALIDATION_KEYS.get(getClass());
+    if (null == key) {
+      key = Key.create("lombok.validation." + getClass().getName());
+      final Key<CachedValue<ValidationResult>> existingKey = VALIDATION_KEYS.putIfAbsent(getClass(), key);
+      if (null != existingKey) {
+        key = existingKey;
+      }
+    }
+    return key;
+  }
+
   protected String getGetterName(final @NotNull PsiField psiField) {
     final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
 
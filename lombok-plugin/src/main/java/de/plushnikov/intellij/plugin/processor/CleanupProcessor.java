@@ -7,8 +7,8 @@ import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLocalVariable;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiType;
-import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
@@ -38,13 +38,13 @@ public class CleanupProcessor extends AbstractProcessor {
 
   @NotNull
   @Override
-  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner) {
     // TODO warning: "You're assigning an auto-cleanup variable to something else. This is a bad idea."
     Collection<LombokProblem> result = new ArrayList<LombokProblem>(2);
     final ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder(result);
 
-    PsiLocalVariable psiVariable = PsiTreeUtil.getParentOfType(psiAnnotation, PsiLocalVariable.class);
-    if (null != psiVariable) {
+    if (psiModifierListOwner instanceof PsiLocalVariable) {
+      final PsiLocalVariable psiVariable = (PsiLocalVariable) psiModifierListOwner;
       final String cleanupName = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "value", String.class);
 
       if (StringUtil.isEmptyOrSpaces(cleanupName)) {
@@ -4,6 +4,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiModifierListOwner;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import org.jetbrains.annotations.NotNull;
 
@@ -29,6 +30,12 @@ public interface Processor {
   @NotNull
   Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation);
 
+  /**
+   * Verifies the annotation declared on already known owner (class, field, method or local variable)
+   */
+  @NotNull
+  Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner);
+
   boolean isEnabled(@NotNull Project project);
 
   boolean canProduce(@NotNull Class<? extends PsiElement> type);
@@ -36,4 +43,10 @@ public interface Processor {
   @NotNull
   List<? super PsiElement> process(@NotNull PsiClass psiClass);
 
+  /**
+   * Collects dependencies (psi elements or modification trackers) output of this processor for given class depends on
+   */
+  @NotNull
+  Collection<Object> collectDependencies(@NotNull PsiClass psiClass);
+
 }
@@ -8,10 +8,9 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.util.PsiTreeUtil;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
@@ -42,13 +41,13 @@ public class SynchronizedProcessor extends AbstractProcessor {
 
   @NotNull
   @Override
-  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner) {
     Collection<LombokProblem> result = new ArrayList<LombokProblem>(2);
 
     final ProblemNewBuilder problemNewBuilder = new ProblemNewBuilder(result);
 
-    PsiMethod psiMethod = PsiTreeUtil.getParentOfType(psiAnnotation, PsiMethod.class);
-    if (null != psiMethod) {
+    if (psiModifierListOwner instanceof PsiMethod) {
+      final PsiMethod psiMethod = (PsiMethod) psiModifierListOwner;
       if (psiMethod.hasModifierProperty(PsiModifier.ABSTRACT)) {
         problemNewBuilder.addError("'@Synchronized' is legal only on concrete methods.",
             PsiQuickFixFactory.createModifierListFix(psiMethod, PsiModifier.ABSTRACT, false, false)
@@ -66,7 +65,6 @@ public class SynchronizedProcessor extends AbstractProcessor {
               problemNewBuilder.addWarning(String.format("Synchronization on a non-final field %s.", lockFieldName),
                   PsiQuickFixFactory.createModifierListFix(lockField, PsiModifier.FINAL, true, false));
             }
-            UserMapKeys.addReadUsageFor(lockField);
           } else {
             final PsiClassType javaLangObjectType = PsiType.getJavaLangObject(containingClass.getManager(), GlobalSearchScope.allScope(containingClass.getProject()));
 
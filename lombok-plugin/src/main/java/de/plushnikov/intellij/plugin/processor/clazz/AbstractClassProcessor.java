@@ -5,27 +5,22 @@ import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.util.Function;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -46,7 +41,7 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
 
     PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiClass, getSupportedAnnotation());
     if (null != psiAnnotation) {
-      if (validate(psiAnnotation, psiClass, ProblemEmptyBuilder.getInstance())) {
+      if (isValid(psiAnnotation, createValidation(psiAnnotation, psiClass))) {
         result = new ArrayList<PsiElement>();
         generatePsiElements(psiClass, psiAnnotation, result);
       }
@@ -66,18 +61,26 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
 
   @NotNull
   @Override
-  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner) {
     Collection<LombokProblem> result = Collections.emptyList();
-    // check first for fields, methods and filter it out, because PsiClass is parent of all annotations and will match other parents too
-    PsiElement psiElement = PsiTreeUtil.getParentOfType(psiAnnotation, PsiField.class, PsiMethod.class, PsiClass.class);
-    if (psiElement instanceof PsiClass) {
-      result = new ArrayList<LombokProblem>(1);
-      validate(psiAnnotation, (PsiClass) psiElement, new ProblemNewBuilder(result));
+
+    if (psiModifierListOwner instanceof PsiClass) {
+      result = getValidationResult(psiAnnotation, createValidation(psiAnnotation, (PsiClass) psiModifierListOwner)).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private Function<ProblemBuilder, Boolean> createValidation(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiClass psiClass) {
+    return new Function<ProblemBuilder, Boolean>() {
+      @Override
+      public Boolean fun(ProblemBuilder builder) {
+        return validate(psiAnnotation, psiClass, builder);
+      }
+    };
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder);
 
   protected abstract void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target);
@@ -85,22 +88,26 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
   protected void validateCallSuperParam(PsiAnnotation psiAnnotation, PsiClass psiClass, ProblemBuilder builder, String generatedMethodName) {
     Boolean callSuperProperty = PsiAnnotationUtil.getDeclaredAnnotationValue(psiAnnotation, "callSuper", Boolean.class);
     if (null == callSuperProperty && PsiClassUtil.hasSuperClass(psiClass)) {
-      builder.addWarning("Generating " + generatedMethodName + " implementation but without a call to superclass, " +
-          "even though this class does not extend java.lang.Object." +
-          "If this is intentional, add '(callSuper=false)' to your type.",
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "true"),
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "false"));
+      if (builder.isCollecting()) {
+        builder.addWarning("Generating " + generatedMethodName + " implementation but without a call to superclass, " +
+            "even though this class does not extend java.lang.Object." +
+            "If this is intentional, add '(callSuper=false)' to your type.",
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "true"),
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "false"));
+      }
     }
   }
 
   protected void validateOfParam(PsiClass psiClass, ProblemBuilder builder, PsiAnnotation psiAnnotation, Collection<String> ofProperty) {
     for (String fieldName : ofProperty) {
       if (!StringUtil.isEmptyOrSpaces(fieldName)) {
-        PsiField fieldByName = psiClass.findFieldByName(fieldName, false);
+        PsiField fieldByName = PsiClassUtil.getFieldInternByName(psiClass, fieldName);
         if (null == fieldByName) {
           final String newPropertyValue = calcNewPropertyValue(ofProperty, fieldName);
-          builder.addWarning(String.format("The field '%s' does not exist", fieldName),
-              PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "of", newPropertyValue));
+          if (builder.isCollecting()) {
+            builder.addWarning(String.format("The field '%s' does not exist", fieldName),
+                PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "of", newPropertyValue));
+          }
         }
       }
     }
@@ -109,16 +116,20 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
   protected void validateExcludeParam(PsiClass psiClass, ProblemBuilder builder, PsiAnnotation psiAnnotation, Collection<String> excludeProperty) {
     for (String fieldName : excludeProperty) {
       if (!StringUtil.isEmptyOrSpaces(fieldName)) {
-        PsiField fieldByName = psiClass.findFieldByName(fieldName, false);
+        PsiField fieldByName = PsiClassUtil.getFieldInternByName(psiClass, fieldName);
         if (null == fieldByName) {
           final String newPropertyValue = calcNewPropertyValue(excludeProperty, fieldName);
-          builder.addWarning(String.format("The field '%s' does not exist", fieldName),
-              PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", newPropertyValue));
+          if (builder.isCollecting()) {
+            builder.addWarning(String.format("The field '%s' does not exist", fieldName),
+                PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", newPropertyValue));
+          }
         } else {
           if (fieldName.startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER) || fieldByName.hasModifierProperty(PsiModifier.STATIC)) {
             final String newPropertyValue = calcNewPropertyValue(excludeProperty, fieldName);
-            builder.addWarning(String.format("The field '%s' would have been excluded anyway", fieldName),
-                PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", newPropertyValue));
+            if (builder.isCollecting()) {
+              builder.addWarning(String.format("The field '%s' would have been excluded anyway", fieldName),
+                  PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", newPropertyValue));
+            }
           }
         }
       }
@@ -144,17 +155,17 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     return result;
   }
 
-  protected Collection<PsiField> filterFields(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean filterTransient) {
-    final Collection<String> excludeProperty = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "exclude", String.class));
-    final Collection<String> ofProperty = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "of", String.class));
+  protected Collection<PsiField> filterFields(@NotNull PsiClass psiClass, @NotNull AbstractFieldsConfig config, boolean filterTransient) {
+    final Collection<String> excludeProperty = config.getExclude();
+    final Collection<String> ofProperty = config.getOf();
 
-    final Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
+    final List<LombokClassModel.FieldModel> fieldModels = LombokClassModel.getInstance(psiClass).getFields();
 
-    final Collection<PsiField> result = new ArrayList<PsiField>(psiFields.size());
+    final Collection<PsiField> result = new ArrayList<PsiField>(fieldModels.size());
 
-    for (PsiField classField : psiFields) {
-      final String fieldName = classField.getName();
-      if (classField.hasModifierProperty(PsiModifier.STATIC) || (filterTransient && classField.hasModifierProperty(PsiModifier.TRANSIENT))) {
+    for (LombokClassModel.FieldModel fieldModel : fieldModels) {
+      final String fieldName = fieldModel.getName();
+      if (fieldModel.isStatic() || (filterTransient && fieldModel.isTransient())) {
         continue;
       }
       if (excludeProperty.contains(fieldName)) {
@@ -164,11 +175,11 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
         continue;
       }
 
-      if (fieldName.startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER) && !ofProperty.contains(fieldName)) {
+      if (fieldModel.isLombokIntern() && !ofProperty.contains(fieldName)) {
         continue;
       }
 
-      result.add(classField);
+      result.add(fieldModel.getPsiField());
     }
     return result;
   }
@@ -180,16 +191,9 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     } else {
       final String getterName = getGetterName(classField);
 
-      boolean hasGetter = PsiMethodUtil.hasMethodByName(PsiClassUtil.collectClassMethodsIntern(psiClass), getterName);
+      boolean hasGetter = LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(getterName);
 
       return hasGetter ? getterName + "()" : fieldName;
     }
   }
-
-  protected Collection<String> makeSet(@Nullable Collection<String> exclude) {
-    if (null == exclude || exclude.isEmpty()) {
-      return Collections.emptySet();
-    }
-    return new HashSet<String>(exclude);
-  }
 }
@@ -0,0 +1,56 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.psi.PsiAnnotation;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parsed values of annotation parameters, shared by annotations generating methods for selected fields of a class
+ * (like @EqualsAndHashCode and @ToString)
+ *
+ * @author Plushnikov Michail
+ */
+public abstract class AbstractFieldsConfig {
+  private final Set<String> exclude;
+  private final Set<String> of;
+  private final boolean callSuper;
+  private final boolean doNotUseGetters;
+
+  protected AbstractFieldsConfig(@NotNull PsiAnnotation psiAnnotation) {
+    this.exclude = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "exclude", String.class));
+    this.of = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "of", String.class));
+    this.callSuper = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "callSuper", Boolean.class, Boolean.FALSE);
+    this.doNotUseGetters = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "doNotUseGetters", Boolean.class, Boolean.FALSE);
+  }
+
+  private static Set<String> makeSet(@Nullable Collection<String> values) {
+    if (null == values || values.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return Collections.unmodifiableSet(new LinkedHashSet<String>(values));
+  }
+
+  @NotNull
+  public Set<String> getExclude() {
+    return exclude;
+  }
+
+  @NotNull
+  public Set<String> getOf() {
+    return of;
+  }
+
+  public boolean isCallSuper() {
+    return callSuper;
+  }
+
+  public boolean isDoNotUseGetters() {
+    return doNotUseGetters;
+  }
+}
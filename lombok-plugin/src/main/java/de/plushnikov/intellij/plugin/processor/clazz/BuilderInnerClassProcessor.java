@@ -7,6 +7,7 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.NoArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightClassBuilder;
@@ -69,7 +70,7 @@ public class BuilderInnerClassProcessor extends AbstractClassProcessor {
     final String innerClassSimpleName = BuilderUtil.createBuilderClassName(psiAnnotation, psiClass);
     final PsiClass innerClassByName = PsiClassUtil.getInnerClassInternByName(psiClass, innerClassSimpleName);
     if (innerClassByName != null) {
-      if (shouldAddErrors) {
+      if (shouldAddErrors && builder.isCollecting()) {
         builder.addError(String.format("Not generated '%s' class: A class with same name already exists. This feature is not implemented and it's not planned.", innerClassSimpleName));
       }
       return false;
@@ -97,13 +98,13 @@ public class BuilderInnerClassProcessor extends AbstractClassProcessor {
   }
 
   protected Collection<PsiMethod> createConstructors(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    NoArgsConstructorProcessor noArgsConstructorProcessor = new NoArgsConstructorProcessor();
+    NoArgsConstructorProcessor noArgsConstructorProcessor = LombokProcessorExtensionPoint.getProcessor(NoArgsConstructorProcessor.class);
     return noArgsConstructorProcessor.createNoArgsConstructor(psiClass, PsiModifier.PACKAGE_LOCAL, psiAnnotation);
   }
 
   protected Collection<PsiField> createFields(@NotNull PsiClass psiClass) {
     List<PsiField> fields = new ArrayList<PsiField>();
-    for (PsiField psiField : psiClass.getFields()) {
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
       boolean createField = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
@@ -126,13 +127,13 @@ public class BuilderInnerClassProcessor extends AbstractClassProcessor {
     List<PsiMethod> methods = new ArrayList<PsiMethod>();
     methods.addAll(createFieldMethods(parentClass, innerClass, psiAnnotation));
     methods.add(createBuildMethod(parentClass, innerClass, psiAnnotation));
-    methods.addAll(new ToStringProcessor().createToStringMethod(innerClass, psiAnnotation));
+    methods.addAll(LombokProcessorExtensionPoint.getProcessor(ToStringProcessor.class).createToStringMethod(innerClass, psiAnnotation));
     return methods;
   }
 
   protected Collection<PsiMethod> createFieldMethods(@NotNull PsiClass parentClass, @NotNull PsiClass innerClass, @NotNull PsiAnnotation psiAnnotation) {
     List<PsiMethod> methods = new ArrayList<PsiMethod>();
-    for (PsiField psiField : parentClass.getFields()) {
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(parentClass)) {
       boolean createMethod = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
@@ -5,12 +5,12 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.AllArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.BuilderUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.experimental.Builder;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,7 +38,7 @@ public class BuilderProcessor extends BuilderInnerClassProcessor {
     final Collection<PsiMethod> definedConstructors = PsiClassUtil.collectClassConstructorIntern(psiClass);
     // Create all args constructor only if there is no declared constructor
     if (definedConstructors.isEmpty()) {
-      final AllArgsConstructorProcessor allArgsConstructorProcessor = new AllArgsConstructorProcessor();
+      final AllArgsConstructorProcessor allArgsConstructorProcessor = LombokProcessorExtensionPoint.getProcessor(AllArgsConstructorProcessor.class);
       target.addAll(allArgsConstructorProcessor.createAllArgsConstructor(psiClass, PsiModifier.DEFAULT, psiAnnotation));
     }
 
@@ -47,7 +47,7 @@ public class BuilderProcessor extends BuilderInnerClassProcessor {
     assert innerClassByName != null; // BuilderInnerClassProcessor should run first
     if (null != innerClassByName) {
       final String builderMethodName = BuilderUtil.createBuilderMethodName(psiAnnotation);
-      if (!PsiMethodUtil.hasMethodByName(PsiClassUtil.collectClassMethodsIntern(psiClass), builderMethodName)) {
+      if (!LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(builderMethodName)) {
         LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiClass.getManager(), builderMethodName)
             .withMethodReturnType(PsiClassUtil.getTypeWithGenerics(innerClassByName))
             .withContainingClass(psiClass)
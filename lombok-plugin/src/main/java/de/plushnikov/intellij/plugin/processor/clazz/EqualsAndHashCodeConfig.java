@@ -0,0 +1,34 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parsed values of @EqualsAndHashCode parameters.
+ * Cached on the annotation, so constant references in parameter values are resolved only once per structural change.
+ *
+ * @author Plushnikov Michail
+ */
+public class EqualsAndHashCodeConfig extends AbstractFieldsConfig {
+  private static final Key<CachedValue<EqualsAndHashCodeConfig>> CONFIG_KEY = Key.create("lombok.equalsAndHashCode.config");
+
+  private EqualsAndHashCodeConfig(@NotNull PsiAnnotation psiAnnotation) {
+    super(psiAnnotation);
+  }
+
+  @NotNull
+  public static EqualsAndHashCodeConfig of(@NotNull final PsiAnnotation psiAnnotation) {
+    return CachedValuesManager.getManager(psiAnnotation.getProject()).getCachedValue(psiAnnotation, CONFIG_KEY,
+        new CachedValueProvider<EqualsAndHashCodeConfig>() {
+          @Override
+          public Result<EqualsAndHashCodeConfig> compute() {
+            return Result.create(new EqualsAndHashCodeConfig(psiAnnotation), PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+}
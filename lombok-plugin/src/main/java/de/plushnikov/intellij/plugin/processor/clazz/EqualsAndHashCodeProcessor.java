@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
+import com.intellij.openapi.util.Computable;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
@@ -12,14 +13,11 @@ import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.StringBuilderSpinAllocator;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiFieldUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import lombok.experimental.NonFinal;
@@ -46,18 +44,29 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
     super(EqualsAndHashCode.class, PsiMethod.class);
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = super.collectDependencies(psiClass);
+    addSuperClassDependencies(psiClass, result);
+    return result;
+  }
+
   @Override
   protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     final boolean result = validateAnnotationOnRightType(psiClass, builder);
     if (result) {
       validateExistingMethods(psiClass, builder);
     }
-    final Collection<String> excludeProperty = PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "exclude", String.class);
-    final Collection<String> ofProperty = PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "of", String.class);
+    final EqualsAndHashCodeConfig config = EqualsAndHashCodeConfig.of(psiAnnotation);
+    final Collection<String> excludeProperty = config.getExclude();
+    final Collection<String> ofProperty = config.getOf();
 
     if (!excludeProperty.isEmpty() && !ofProperty.isEmpty()) {
-      builder.addWarning("exclude and of are mutually exclusive; the 'exclude' parameter will be ignored",
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", null));
+      if (builder.isCollecting()) {
+        builder.addWarning("exclude and of are mutually exclusive; the 'exclude' parameter will be ignored",
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", null));
+      }
     } else {
       validateExcludeParam(psiClass, builder, psiAnnotation, excludeProperty);
     }
@@ -70,11 +79,12 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   protected void validateCallSuperParamForObject(PsiAnnotation psiAnnotation, PsiClass psiClass, ProblemBuilder builder) {
-    Boolean callSuperProperty = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "callSuper", Boolean.class);
-    if (null != callSuperProperty && callSuperProperty && !PsiClassUtil.hasSuperClass(psiClass)) {
-      builder.addError("Generating equals/hashCode with a supercall to java.lang.Object is pointless.",
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "false"),
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", null));
+    if (EqualsAndHashCodeConfig.of(psiAnnotation).isCallSuper() && !PsiClassUtil.hasSuperClass(psiClass)) {
+      if (builder.isCollecting()) {
+        builder.addError("Generating equals/hashCode with a supercall to java.lang.Object is pointless.",
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", "false"),
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "callSuper", null));
+      }
     }
   }
 
@@ -92,8 +102,10 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
 
     if (areMethodsAlreadyExists(psiClass)) {
       final boolean needsCanEqual = shouldGenerateCanEqual(psiClass);
-      builder.addWarning(String.format("Not generating equals%s: A method with one of those names already exists. (Either all or none of these methods will be generated).",
-          needsCanEqual ? ", hashCode and canEquals" : " and hashCode"));
+      if (builder.isCollecting()) {
+        builder.addWarning(String.format("Not generating equals%s: A method with one of those names already exists. (Either all or none of these methods will be generated).",
+            needsCanEqual ? ", hashCode and canEquals" : " and hashCode"));
+      }
       return false;
     }
 
@@ -101,8 +113,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   private boolean areMethodsAlreadyExists(@NotNull PsiClass psiClass) {
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    return PsiMethodUtil.hasMethodByName(classMethods, EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME, CAN_EQUAL_METHOD_NAME);
+    return LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME, CAN_EQUAL_METHOD_NAME);
   }
 
   protected void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
@@ -124,9 +135,6 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
       result.add(createCanEqualMethod(psiClass, psiAnnotation));
     }
 
-    Collection<PsiField> equalsAndHashCodeFields = PsiFieldUtil.filterFieldsByModifiers(psiClass.getFields(), PsiModifier.STATIC, PsiModifier.TRANSIENT);
-    UserMapKeys.addReadUsageFor(equalsAndHashCodeFields);
-
     return result;
   }
 
@@ -142,52 +150,62 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  private PsiMethod createEqualsMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
+  private PsiMethod createEqualsMethod(@NotNull final PsiClass psiClass, @NotNull final PsiAnnotation psiAnnotation, final boolean hasCanEqualMethod) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createEqualsBlockString(psiClass, psiAnnotation, hasCanEqualMethod);
-
     return new LombokLightMethodBuilder(psiManager, EQUALS_METHOD_NAME)
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
         .withParameter("o", PsiType.getJavaLangObject(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withLazyBody(new Computable<String>() {
+          @Override
+          public String compute() {
+            return createEqualsBlockString(psiClass, psiAnnotation, hasCanEqualMethod);
+          }
+        });
   }
 
   @NotNull
-  private PsiMethod createHashCodeMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
+  private PsiMethod createHashCodeMethod(@NotNull final PsiClass psiClass, @NotNull final PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createHashcodeBlockString(psiClass, psiAnnotation);
-
     return new LombokLightMethodBuilder(psiManager, HASH_CODE_METHOD_NAME)
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.INT)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withLazyBody(new Computable<String>() {
+          @Override
+          public String compute() {
+            return createHashcodeBlockString(psiClass, psiAnnotation);
+          }
+        });
   }
 
   @NotNull
-  private PsiMethod createCanEqualMethod(@NotNull PsiClass psiClass, @NotNull PsiElement psiNavTargetElement) {
+  private PsiMethod createCanEqualMethod(@NotNull final PsiClass psiClass, @NotNull PsiElement psiNavTargetElement) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = String.format("return other instanceof %s;", psiClass.getName());
-
     return new LombokLightMethodBuilder(psiManager, CAN_EQUAL_METHOD_NAME)
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiNavTargetElement)
         .withParameter("other", PsiType.getJavaLangObject(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withLazyBody(new Computable<String>() {
+          @Override
+          public String compute() {
+            return String.format("return other instanceof %s;", psiClass.getName());
+          }
+        });
   }
 
   private String createEqualsBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
-    final boolean callSuper = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "callSuper", Boolean.class, Boolean.FALSE);
-    final boolean doNotUseGetters = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "doNotUseGetters", Boolean.class, Boolean.FALSE);
+    final EqualsAndHashCodeConfig config = EqualsAndHashCodeConfig.of(psiAnnotation);
+    final boolean callSuper = config.isCallSuper();
+    final boolean doNotUseGetters = config.isDoNotUseGetters();
 
     final String psiClassName = psiClass.getName();
 
@@ -204,7 +222,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
         builder.append("if (!super.equals(o)) return false;\n");
       }
 
-      final Collection<PsiField> psiFields = filterFields(psiClass, psiAnnotation, true);
+      final Collection<PsiField> psiFields = filterFields(psiClass, config, true);
       for (PsiField classField : psiFields) {
         final String fieldName = classField.getName();
 
@@ -245,13 +263,14 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   private static final int PRIME_FOR_FALSE = 97;
 
   private String createHashcodeBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final boolean callSuper = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "callSuper", Boolean.class, Boolean.FALSE);
-    final boolean doNotUseGetters = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "doNotUseGetters", Boolean.class, Boolean.FALSE);
+    final EqualsAndHashCodeConfig config = EqualsAndHashCodeConfig.of(psiAnnotation);
+    final boolean callSuper = config.isCallSuper();
+    final boolean doNotUseGetters = config.isDoNotUseGetters();
 
     final StringBuilder builder = StringBuilderSpinAllocator.alloc();
     try {
 
-      final Collection<PsiField> psiFields = filterFields(psiClass, psiAnnotation, true);
+      final Collection<PsiField> psiFields = filterFields(psiClass, config, true);
 
       if (!psiFields.isEmpty() || callSuper) {
         builder.append("final int PRIME = ").append(PRIME_FOR_HASHCODE).append(";\n");
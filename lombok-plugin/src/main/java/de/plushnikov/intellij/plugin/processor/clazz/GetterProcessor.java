@@ -5,16 +5,12 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.field.GetterFieldProcessor;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
@@ -72,22 +68,23 @@ public class GetterProcessor extends AbstractClassProcessor {
   @NotNull
   public Collection<PsiMethod> createFieldGetters(@NotNull PsiClass psiClass, @NotNull String methodModifier) {
     Collection<PsiMethod> result = new ArrayList<PsiMethod>();
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+    final LombokClassModel classModel = LombokClassModel.getInstance(psiClass);
+    final PsiClassMethodIndex methodIndex = classModel.getMethodIndex();
 
-    for (PsiField psiField : psiClass.getFields()) {
+    for (LombokClassModel.FieldModel fieldModel : classModel.getFields()) {
+      final PsiField psiField = fieldModel.getPsiField();
       boolean createGetter = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
         //Skip static fields.
-        createGetter = !modifierList.hasModifierProperty(PsiModifier.STATIC);
+        createGetter = !fieldModel.isStatic();
         //Skip fields having Getter annotation already
         createGetter &= !hasFieldProcessorAnnotation(modifierList);
         //Skip fields that start with $
-        createGetter &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
+        createGetter &= !fieldModel.isLombokIntern();
         //Skip fields if a method with same name and arguments count already exists
-        final Collection<String> methodNames = LombokUtils.toAllGetterNames(psiField.getName(), PsiType.BOOLEAN.equals(psiField.getType()));
-        for (String methodName : methodNames) {
-          createGetter &= !PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 0);
+        for (String methodName : fieldModel.getGetterNames()) {
+          createGetter &= !methodIndex.hasSimilarMethod(methodName, 0);
         }
       }
 
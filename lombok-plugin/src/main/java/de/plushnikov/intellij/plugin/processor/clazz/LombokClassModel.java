@@ -0,0 +1,200 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable analysis of own fields and methods of a class, shared by all processors working on the class.
+ * Computed once and cached until the class is changed.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokClassModel {
+  private static final Key<CachedValue<LombokClassModel>> CLASS_MODEL_KEY = Key.create("lombok.class.model");
+
+  private final List<FieldModel> fields;
+  private final Collection<PsiMethod> methods;
+  private final PsiClassMethodIndex methodIndex;
+
+  private LombokClassModel(@NotNull PsiClass psiClass) {
+    final boolean valueClass = PsiAnnotationUtil.isAnnotatedWith(psiClass, Value.class, lombok.experimental.Value.class);
+
+    final Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
+    final List<FieldModel> fieldModels = new ArrayList<FieldModel>(psiFields.size());
+    for (PsiField psiField : psiFields) {
+      fieldModels.add(new FieldModel(psiField, valueClass));
+    }
+    this.fields = Collections.unmodifiableList(fieldModels);
+    this.methods = Collections.unmodifiableList(new ArrayList<PsiMethod>(PsiClassUtil.collectClassMethodsIntern(psiClass)));
+    this.methodIndex = new PsiClassMethodIndex(methods);
+  }
+
+  @NotNull
+  public static LombokClassModel getInstance(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, CLASS_MODEL_KEY,
+        new CachedValueProvider<LombokClassModel>() {
+          @Override
+          public Result<LombokClassModel> compute() {
+            return Result.create(new LombokClassModel(psiClass), psiClass);
+          }
+        }, false);
+  }
+
+  @NotNull
+  public List<FieldModel> getFields() {
+    return fields;
+  }
+
+  @NotNull
+  public Collection<PsiMethod> getMethods() {
+    return methods;
+  }
+
+  @NotNull
+  public PsiClassMethodIndex getMethodIndex() {
+    return methodIndex;
+  }
+
+  /**
+   * @return all fields, which are not static, not lombok intern and not initialized final fields
+   */
+  @NotNull
+  public Collection<PsiField> getNotInitializedAndNotStaticFields() {
+    final Collection<PsiField> result = new ArrayList<PsiField>(fields.size());
+    for (FieldModel field : fields) {
+      if (!field.isLombokIntern() && !field.isStatic() && !(field.isInitialized() && field.isDeclaredFinal())) {
+        result.add(field.getPsiField());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return all not initialized and not static fields, which are final or annotated with NonNull
+   */
+  @NotNull
+  public Collection<PsiField> getRequiredFields() {
+    final Collection<PsiField> result = new ArrayList<PsiField>(fields.size());
+    for (FieldModel field : fields) {
+      if (!field.isLombokIntern() && !field.isStatic() && !field.isInitialized() && (field.isFinal() || field.isNonNull())) {
+        result.add(field.getPsiField());
+      }
+    }
+    return result;
+  }
+
+  public static class FieldModel {
+    private final PsiField psiField;
+    private final String name;
+    private final boolean staticField;
+    private final boolean transientField;
+    private final boolean declaredFinal;
+    private final boolean finalField;
+    private final boolean initialized;
+    private final boolean nonNull;
+    private final boolean booleanField;
+    private final List<String> getterNames;
+    private final List<String> setterNames;
+
+    private FieldModel(@NotNull PsiField psiField, boolean valueClass) {
+      this.psiField = psiField;
+      this.name = psiField.getName();
+
+      final PsiModifierList modifierList = psiField.getModifierList();
+      final boolean hasModifierList = null != modifierList;
+      this.staticField = hasModifierList && modifierList.hasModifierProperty(PsiModifier.STATIC);
+      this.transientField = hasModifierList && modifierList.hasModifierProperty(PsiModifier.TRANSIENT);
+      this.declaredFinal = hasModifierList && modifierList.hasModifierProperty(PsiModifier.FINAL);
+      this.finalField = declaredFinal || (hasModifierList && valueClass && PsiAnnotationUtil.isNotAnnotatedWith(psiField, NonFinal.class));
+      this.initialized = null != psiField.getInitializer();
+      this.nonNull = hasModifierList && PsiAnnotationUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
+      this.booleanField = PsiType.BOOLEAN.equals(psiField.getType());
+      this.getterNames = LombokUtils.toAllGetterNames(name, booleanField);
+      this.setterNames = LombokUtils.toAllSetterNames(name, booleanField);
+    }
+
+    @NotNull
+    public PsiField getPsiField() {
+      return psiField;
+    }
+
+    @NotNull
+    public String getName() {
+      return name;
+    }
+
+    public boolean isStatic() {
+      return staticField;
+    }
+
+    public boolean isTransient() {
+      return transientField;
+    }
+
+    public boolean isDeclaredFinal() {
+      return declaredFinal;
+    }
+
+    /**
+     * @return true if field is declared final or is made final by @Value on the class
+     */
+    public boolean isFinal() {
+      return finalField;
+    }
+
+    public boolean isInitialized() {
+      return initialized;
+    }
+
+    public boolean isNonNull() {
+      return nonNull;
+    }
+
+    public boolean isBoolean() {
+      return booleanField;
+    }
+
+    /**
+     * @return true if field name starts with '$'
+     */
+    public boolean isLombokIntern() {
+      return name.startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
+    }
+
+    /**
+     * @return all possible getter names of the field, used to find already existing getter methods
+     */
+    @NotNull
+    public List<String> getGetterNames() {
+      return getterNames;
+    }
+
+    /**
+     * @return all possible setter names of the field, used to find already existing setter methods
+     */
+    @NotNull
+    public List<String> getSetterNames() {
+      return setterNames;
+    }
+  }
+}
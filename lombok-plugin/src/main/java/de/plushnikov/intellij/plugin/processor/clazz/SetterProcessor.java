@@ -5,15 +5,11 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.field.SetterFieldProcessor;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
@@ -52,7 +48,9 @@ public class SetterProcessor extends AbstractClassProcessor {
   protected boolean validateAnnotationOnRightType(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     boolean result = true;
     if (psiClass.isAnnotationType() || psiClass.isInterface() || psiClass.isEnum()) {
-      builder.addError(String.format("'@%s' is only supported on a class or field type", psiAnnotation.getQualifiedName()));
+      if (builder.isCollecting()) {
+        builder.addError(String.format("'@%s' is only supported on a class or field type", psiAnnotation.getQualifiedName()));
+      }
       result = false;
     }
     return result;
@@ -72,24 +70,26 @@ public class SetterProcessor extends AbstractClassProcessor {
 
   public Collection<PsiMethod> createFieldSetters(@NotNull PsiClass psiClass, @NotNull String methodModifier) {
     Collection<PsiMethod> result = new ArrayList<PsiMethod>();
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+    final LombokClassModel classModel = LombokClassModel.getInstance(psiClass);
+    final PsiClassMethodIndex methodIndex = classModel.getMethodIndex();
 
-    for (PsiField psiField : psiClass.getFields()) {
+    for (LombokClassModel.FieldModel fieldModel : classModel.getFields()) {
+      final PsiField psiField = fieldModel.getPsiField();
       boolean createSetter = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
         //Skip final fields.
-        createSetter = !modifierList.hasModifierProperty(PsiModifier.FINAL);
+        createSetter = !fieldModel.isDeclaredFinal();
         //Skip static fields.
-        createSetter &= !modifierList.hasModifierProperty(PsiModifier.STATIC);
+        createSetter &= !fieldModel.isStatic();
         //Skip fields having Setter annotation already
         createSetter &= !hasFieldProcessorAnnotation(modifierList);
         //Skip fields that start with $
-        createSetter &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
+        createSetter &= !fieldModel.isLombokIntern();
         //Skip fields if a method with same name already exists
-        final Collection<String> methodNames = getFieldProcessor().getAllSetterNames(psiField, PsiType.BOOLEAN.equals(psiField.getType()));
+        final Collection<String> methodNames = getFieldProcessor().getAllSetterNames(fieldModel);
         for (String methodName : methodNames) {
-          createSetter &= !PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 1);
+          createSetter &= !methodIndex.hasSimilarMethod(methodName, 1);
         }
       }
       if (createSetter) {
@@ -0,0 +1,42 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parsed values of @ToString parameters.
+ * Cached on the annotation, so constant references in parameter values are resolved only once per structural change.
+ *
+ * @author Plushnikov Michail
+ */
+public class ToStringConfig extends AbstractFieldsConfig {
+  private static final Key<CachedValue<ToStringConfig>> CONFIG_KEY = Key.create("lombok.toString.config");
+
+  private final boolean includeFieldNames;
+
+  private ToStringConfig(@NotNull PsiAnnotation psiAnnotation) {
+    super(psiAnnotation);
+    this.includeFieldNames = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "includeFieldNames", Boolean.class, Boolean.TRUE);
+  }
+
+  @NotNull
+  public static ToStringConfig of(@NotNull final PsiAnnotation psiAnnotation) {
+    return CachedValuesManager.getManager(psiAnnotation.getProject()).getCachedValue(psiAnnotation, CONFIG_KEY,
+        new CachedValueProvider<ToStringConfig>() {
+          @Override
+          public Result<ToStringConfig> compute() {
+            return Result.create(new ToStringConfig(psiAnnotation), PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  public boolean isIncludeFieldNames() {
+    return includeFieldNames;
+  }
+}
@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
+import com.intellij.openapi.util.Computable;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
@@ -12,14 +13,9 @@ import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.StringBuilderSpinAllocator;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
-import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiFieldUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
 
@@ -48,12 +44,15 @@ public class ToStringProcessor extends AbstractClassProcessor {
       validateExistingMethods(psiClass, builder);
     }
 
-    final Collection<String> excludeProperty = PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "exclude", String.class);
-    final Collection<String> ofProperty = PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "of", String.class);
+    final ToStringConfig config = ToStringConfig.of(psiAnnotation);
+    final Collection<String> excludeProperty = config.getExclude();
+    final Collection<String> ofProperty = config.getOf();
 
     if (!excludeProperty.isEmpty() && !ofProperty.isEmpty()) {
-      builder.addWarning("exclude and of are mutually exclusive; the 'exclude' parameter will be ignored",
-          PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", null));
+      if (builder.isCollecting()) {
+        builder.addWarning("exclude and of are mutually exclusive; the 'exclude' parameter will be ignored",
+            PsiQuickFixFactory.createChangeAnnotationParameterFix(psiAnnotation, "exclude", null));
+      }
     } else {
       validateExcludeParam(psiClass, builder, psiAnnotation, excludeProperty);
     }
@@ -74,9 +73,10 @@ public class ToStringProcessor extends AbstractClassProcessor {
   protected boolean validateExistingMethods(@NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     boolean result = true;
 
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, METHOD_NAME)) {
-      builder.addWarning(String.format("Not generated '%s'(): A method with same name already exists", METHOD_NAME));
+    if (LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(METHOD_NAME)) {
+      if (builder.isCollecting()) {
+        builder.addWarning(String.format("Not generated '%s'(): A method with same name already exists", METHOD_NAME));
+      }
       result = false;
     }
 
@@ -88,9 +88,8 @@ public class ToStringProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  public Collection<PsiMethod> createToStringMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, METHOD_NAME)) {
+  public Collection<PsiMethod> createToStringMethod(@NotNull final PsiClass psiClass, @NotNull final PsiAnnotation psiAnnotation) {
+    if (LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(METHOD_NAME)) {
       return Collections.emptyList();
     }
 
@@ -99,22 +98,23 @@ public class ToStringProcessor extends AbstractClassProcessor {
         .withMethodReturnType(PsiType.getJavaLangString(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withModifier(PsiModifier.PUBLIC);
-
-    final String paramString = createParamString(psiClass, psiAnnotation);
-    final String blockText = String.format("return \"%s(%s)\";", psiClass.getQualifiedName(), paramString);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
-
-    Collection<PsiField> toStringFields = PsiFieldUtil.filterFieldsByModifiers(psiClass.getFields(), PsiModifier.STATIC);
-    UserMapKeys.addReadUsageFor(toStringFields);
+        .withModifier(PsiModifier.PUBLIC)
+        .withLazyBody(new Computable<String>() {
+          @Override
+          public String compute() {
+            final String paramString = createParamString(psiClass, psiAnnotation);
+            return String.format("return \"%s(%s)\";", psiClass.getQualifiedName(), paramString);
+          }
+        });
 
     return Collections.<PsiMethod>singletonList(method);
   }
 
   private String createParamString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final boolean includeFieldNames = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "includeFieldNames", Boolean.class, Boolean.TRUE);
-    final boolean callSuper = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "callSuper", Boolean.class, Boolean.FALSE);
-    final boolean doNotUseGetters = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "doNotUseGetters", Boolean.class, Boolean.FALSE);
+    final ToStringConfig config = ToStringConfig.of(psiAnnotation);
+    final boolean includeFieldNames = config.isIncludeFieldNames();
+    final boolean callSuper = config.isCallSuper();
+    final boolean doNotUseGetters = config.isDoNotUseGetters();
 
     final StringBuilder paramString = StringBuilderSpinAllocator.alloc();
     try {
@@ -122,7 +122,7 @@ public class ToStringProcessor extends AbstractClassProcessor {
         paramString.append("super=\" + super.toString() + \", ");
       }
 
-      final Collection<PsiField> psiFields = filterFields(psiClass, psiAnnotation, false);
+      final Collection<PsiField> psiFields = filterFields(psiClass, config, false);
       for (PsiField classField : psiFields) {
         final String fieldName = classField.getName();
 
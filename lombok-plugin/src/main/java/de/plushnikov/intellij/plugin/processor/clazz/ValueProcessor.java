@@ -6,6 +6,7 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.AllArgsConstructorProcessor;
@@ -38,6 +39,14 @@ public class ValueProcessor extends AbstractClassProcessor {
     super(supportedAnnotationClass, PsiMethod.class);
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = super.collectDependencies(psiClass);
+    addSuperClassDependencies(psiClass, result);
+    return result;
+  }
+
   @Override
   protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     validateCallSuperParam(psiAnnotation, psiClass, builder, "equals/hashCode");
@@ -48,10 +57,12 @@ public class ValueProcessor extends AbstractClassProcessor {
   protected void validateCallSuperParam(PsiAnnotation psiAnnotation, PsiClass psiClass, ProblemBuilder builder, String generatedMethodName) {
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, EqualsAndHashCode.class)) {
       if (PsiClassUtil.hasSuperClass(psiClass)) {
-        builder.addWarning("Generating " + generatedMethodName + " implementation but without a call to superclass, " +
-            "even though this class does not extend java.lang.Object." +
-            "If this is intentional, add '@EqualsAndHashCode(callSuper=false)' to your type.",
-            PsiQuickFixFactory.createAddAnnotationQuickFix(psiClass, "lombok.EqualsAndHashCode", "callSuper=false"));
+        if (builder.isCollecting()) {
+          builder.addWarning("Generating " + generatedMethodName + " implementation but without a call to superclass, " +
+              "even though this class does not extend java.lang.Object." +
+              "If this is intentional, add '@EqualsAndHashCode(callSuper=false)' to your type.",
+              PsiQuickFixFactory.createAddAnnotationQuickFix(psiClass, "lombok.EqualsAndHashCode", "callSuper=false"));
+        }
       }
     }
   }
@@ -74,20 +85,20 @@ public class ValueProcessor extends AbstractClassProcessor {
     */
 
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, Getter.class)) {
-      target.addAll(new GetterProcessor().createFieldGetters(psiClass, PsiModifier.PUBLIC));
+      target.addAll(LombokProcessorExtensionPoint.getProcessor(GetterProcessor.class).createFieldGetters(psiClass, PsiModifier.PUBLIC));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, EqualsAndHashCode.class)) {
-      target.addAll(new EqualsAndHashCodeProcessor().createEqualAndHashCode(psiClass, psiAnnotation));
+      target.addAll(LombokProcessorExtensionPoint.getProcessor(EqualsAndHashCodeProcessor.class).createEqualAndHashCode(psiClass, psiAnnotation));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, ToString.class)) {
-      target.addAll(new ToStringProcessor().createToStringMethod(psiClass, psiAnnotation));
+      target.addAll(LombokProcessorExtensionPoint.getProcessor(ToStringProcessor.class).createToStringMethod(psiClass, psiAnnotation));
     }
     // create required constructor only if there are no other constructor annotations
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, NoArgsConstructor.class, RequiredArgsConstructor.class, AllArgsConstructor.class)) {
       final Collection<PsiMethod> definedConstructors = PsiClassUtil.collectClassConstructorIntern(psiClass);
       // and only if there are no any other constructors!
       if (definedConstructors.isEmpty()) {
-        final AllArgsConstructorProcessor allArgsConstructorProcessor = new AllArgsConstructorProcessor();
+        final AllArgsConstructorProcessor allArgsConstructorProcessor = LombokProcessorExtensionPoint.getProcessor(AllArgsConstructorProcessor.class);
 
         final String staticName = PsiAnnotationUtil.getAnnotationValue(psiAnnotation, "staticConstructor", String.class);
         final Collection<PsiField> requiredFields = allArgsConstructorProcessor.getAllFields(psiClass);
@@ -12,6 +12,7 @@ import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
 import de.plushnikov.intellij.plugin.processor.field.WitherFieldProcessor;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.experimental.Wither;
 import org.jetbrains.annotations.NotNull;
 
@@ -57,7 +58,7 @@ public class WitherProcessor extends AbstractClassProcessor {
   public Collection<PsiMethod> createFieldWithers(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull String methodModifier, @NotNull AccessorsInfo accessors) {
     Collection<PsiMethod> result = new ArrayList<PsiMethod>();
 
-    for (PsiField psiField : psiClass.getFields()) {
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
       boolean createWither = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.clazz.constructor;
 
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
@@ -7,25 +8,23 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiParameterList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.util.StringBuilderSpinAllocator;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiElementUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.beans.ConstructorProperties;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -78,26 +77,30 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
       paramTypes.add(param.getType());
     }
 
-    final Collection<PsiMethod> definedConstructors = PsiClassUtil.collectClassConstructorIntern(psiClass);
+    final PsiClassMethodIndex methodIndex = LombokClassModel.getInstance(psiClass).getMethodIndex();
     final String constructorName = psiClass.getName();
 
-    if (containsMethod(definedConstructors, constructorName, paramTypes)) {
+    if (null != constructorName && methodIndex.hasConstructor(constructorName, paramTypes)) {
       if (paramTypes.isEmpty()) {
         builder.addError("Constructor without parameters is already defined");
       } else {
-        builder.addError(String.format("Constructor with %d parameters is already defined", paramTypes.size()));
+        if (builder.isCollecting()) {
+          builder.addError(String.format("Constructor with %d parameters is already defined", paramTypes.size()));
+        }
       }
       result = false;
     }
 
     if (isStaticConstructor(staticConstructorName)) {
-      final Collection<PsiMethod> definedMethods = PsiClassUtil.collectClassStaticMethodsIntern(psiClass);
-
-      if (containsMethod(definedMethods, staticConstructorName, paramTypes)) {
+      if (methodIndex.hasStaticMethod(staticConstructorName, paramTypes)) {
         if (paramTypes.isEmpty()) {
-          builder.addError(String.format("Method '%s' matched staticConstructorName is already defined", staticConstructorName));
+          if (builder.isCollecting()) {
+            builder.addError(String.format("Method '%s' matched staticConstructorName is already defined", staticConstructorName));
+          }
         } else {
-          builder.addError(String.format("Method '%s' with %d parameters matched staticConstructorName is already defined", staticConstructorName, paramTypes.size()));
+          if (builder.isCollecting()) {
+            builder.addError(String.format("Method '%s' with %d parameters matched staticConstructorName is already defined", staticConstructorName, paramTypes.size()));
+          }
         }
         result = false;
       }
@@ -106,35 +109,9 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     return result;
   }
 
-  private boolean containsMethod(final Collection<PsiMethod> definedMethods, final String methodName, final List<PsiType> paramTypes) {
-    for (PsiMethod method : definedMethods) {
-      if (PsiElementUtil.methodMatches(method, null, null, methodName, paramTypes)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   @NotNull
   protected Collection<PsiField> getAllNotInitializedAndNotStaticFields(@NotNull PsiClass psiClass) {
-    Collection<PsiField> allNotInitializedNotStaticFields = new ArrayList<PsiField>();
-    for (PsiField psiField : psiClass.getFields()) {
-      // skip fields named $
-      boolean addField = !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
-
-      final PsiModifierList modifierList = psiField.getModifierList();
-      if (null != modifierList) {
-        // skip static fields
-        addField &= !modifierList.hasModifierProperty(PsiModifier.STATIC);
-        // skip initialized final fields
-        addField &= !(null != psiField.getInitializer() && modifierList.hasModifierProperty(PsiModifier.FINAL));
-      }
-
-      if (addField) {
-        allNotInitializedNotStaticFields.add(psiField);
-      }
-    }
-    return allNotInitializedNotStaticFields;
+    return LombokClassModel.getInstance(psiClass).getNotInitializedAndNotStaticFields();
   }
 
   @NotNull
@@ -168,41 +145,58 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     return Collections.singletonList(constructor);
   }
 
-  private PsiMethod createConstructor(@NotNull PsiClass psiClass, @NotNull String methodVisibility, boolean suppressConstructorProperties, @NotNull Collection<PsiField> params, @NotNull PsiAnnotation psiAnnotation) {
-    final StringBuilder builder = StringBuilderSpinAllocator.alloc();
-    try {
-      if (!suppressConstructorProperties && !params.isEmpty()) {
-        builder.append("@java.beans.ConstructorProperties( {");
-        for (PsiField param : params) {
-          builder.append('"').append(param.getName()).append('"').append(',');
+  private PsiMethod createConstructor(@NotNull PsiClass psiClass, @NotNull String methodVisibility, boolean suppressConstructorProperties, @NotNull final Collection<PsiField> params, @NotNull PsiAnnotation psiAnnotation) {
+    LombokLightMethodBuilder constructor = new LombokLightMethodBuilder(psiClass.getManager(), psiClass.getName())
+        .withConstructor(true)
+        .withContainingClass(psiClass)
+        .withNavigationElement(psiAnnotation);
+    // empty visibility is used for AccessLevel.PACKAGE
+    constructor.withModifier(StringUtil.isEmpty(methodVisibility) ? PsiModifier.PACKAGE_LOCAL : methodVisibility);
+
+    if (!suppressConstructorProperties && !params.isEmpty()) {
+      constructor.withLazyAnnotation(ConstructorProperties.class.getName(), new Computable<String>() {
+        @Override
+        public String compute() {
+          return buildConstructorPropertiesText(params);
         }
-        builder.deleteCharAt(builder.length() - 1);
-        builder.append("} ) ");
-      }
+      });
+    }
+
+    for (PsiField param : params) {
+      constructor.withParameter(param.getName(), param.getType());
+    }
 
-      builder.append(methodVisibility);
-      if (StringUtil.isNotEmpty(methodVisibility)) {
-        builder.append(' ');
+    constructor.withLazyBody(new Computable<String>() {
+      @Override
+      public String compute() {
+        final StringBuilder builder = new StringBuilder();
+        for (PsiField param : params) {
+          builder.append("this.").append(param.getName()).append(" = ").append(param.getName()).append(";\n");
+        }
+        return builder.toString();
       }
+    });
 
-      builder.append(psiClass.getName());
-      appendParamDeclaration(params, builder);
-      builder.append("{");
-      appendParamInitialization(params, builder);
-      builder.append("\n}");
+    return constructor;
+  }
 
-      for (PsiField psiField : params) {
-        UserMapKeys.addWriteUsageFor(psiField);
+  private String buildConstructorPropertiesText(@NotNull Collection<PsiField> params) {
+    final StringBuilder builder = StringBuilderSpinAllocator.alloc();
+    try {
+      builder.append('@').append(ConstructorProperties.class.getName()).append("( {");
+      for (PsiField param : params) {
+        builder.append('"').append(param.getName()).append('"').append(',');
       }
-
-      return PsiMethodUtil.createMethod(psiClass, builder.toString(), psiAnnotation);
+      builder.deleteCharAt(builder.length() - 1);
+      builder.append("} )");
+      return builder.toString();
     } finally {
       StringBuilderSpinAllocator.dispose(builder);
     }
   }
 
-  private PsiMethod createStaticConstructor(PsiClass psiClass, String staticName, Collection<PsiField> params, PsiAnnotation psiAnnotation) {
-    LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiClass.getManager(), staticName)
+  private PsiMethod createStaticConstructor(@NotNull final PsiClass psiClass, @NotNull String staticName, @NotNull Collection<PsiField> params, @NotNull PsiAnnotation psiAnnotation) {
+    final LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiClass.getManager(), staticName)
         .withMethodReturnType(PsiClassUtil.getTypeWithGenerics(psiClass))
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
@@ -210,14 +204,17 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
         .withModifier(PsiModifier.STATIC);
 
     for (PsiField param : params) {
-      UserMapKeys.addWriteUsageFor(param);
       method.withParameter(param.getName(), param.getType());
     }
 
-    final String paramsText = joinParameters(method.getParameterList());
-    final String psiClassName = buildClassNameWithGenericTypeParameters(psiClass);
-    final String blockText = String.format("return new %s(%s);", psiClassName, paramsText);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withLazyBody(new Computable<String>() {
+      @Override
+      public String compute() {
+        final String paramsText = joinParameters(method.getParameterList());
+        final String psiClassName = buildClassNameWithGenericTypeParameters(psiClass);
+        return String.format("return new %s(%s);", psiClassName, paramsText);
+      }
+    });
 
     return method;
   }
@@ -250,23 +247,4 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
       StringBuilderSpinAllocator.dispose(builder);
     }
   }
-
-  private StringBuilder appendParamDeclaration(Collection<PsiField> params, StringBuilder builder) {
-    builder.append('(');
-    if (!params.isEmpty()) {
-      for (PsiField param : params) {
-        builder.append(param.getType().getCanonicalText()).append(' ').append(param.getName()).append(',');
-      }
-      builder.deleteCharAt(builder.length() - 1);
-    }
-    builder.append(')');
-    return builder;
-  }
-
-  private StringBuilder appendParamInitialization(Collection<PsiField> params, StringBuilder builder) {
-    for (PsiField param : params) {
-      builder.append("\nthis.").append(param.getName()).append(" = ").append(param.getName()).append(';');
-    }
-    return builder;
-  }
 }
@@ -5,19 +5,13 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiModifierList;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
-import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
-import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -61,28 +55,7 @@ public class RequiredArgsConstructorProcessor extends AbstractConstructorClassPr
 
   @NotNull
   public Collection<PsiField> getRequiredFields(@NotNull PsiClass psiClass) {
-    Collection<PsiField> result = new ArrayList<PsiField>();
-    final boolean classAnnotatedWithValue = PsiAnnotationUtil.isAnnotatedWith(psiClass, Value.class, lombok.experimental.Value.class);
-
-    for (PsiField psiField : getAllNotInitializedAndNotStaticFields(psiClass)) {
-      boolean addField = false;
-
-      PsiModifierList modifierList = psiField.getModifierList();
-      if (null != modifierList) {
-        boolean isFinal = modifierList.hasModifierProperty(PsiModifier.FINAL);
-        if (!isFinal && classAnnotatedWithValue) {
-          isFinal = PsiAnnotationUtil.isNotAnnotatedWith(psiField, NonFinal.class);
-        }
-        final boolean isNonNull = PsiAnnotationUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
-        // accept initialized final or nonnull fields
-        addField = (isFinal || isNonNull) && null == psiField.getInitializer();
-      }
-
-      if (addField) {
-        result.add(psiField);
-      }
-    }
-    return result;
+    return LombokClassModel.getInstance(psiClass).getRequiredFields();
   }
 
 }
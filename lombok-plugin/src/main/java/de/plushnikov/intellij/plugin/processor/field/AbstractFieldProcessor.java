@@ -5,11 +5,10 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiModifierList;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.util.Function;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -40,7 +39,7 @@ public abstract class AbstractFieldProcessor extends AbstractProcessor implement
     for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
       PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiField, getSupportedAnnotation());
       if (null != psiAnnotation) {
-        if (validate(psiAnnotation, psiField, ProblemEmptyBuilder.getInstance())) {
+        if (isValid(psiAnnotation, createValidation(psiAnnotation, psiField))) {
           generatePsiElements(psiField, psiAnnotation, result);
         }
       }
@@ -62,18 +61,26 @@ public abstract class AbstractFieldProcessor extends AbstractProcessor implement
 
   @NotNull
   @Override
-  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner) {
     Collection<LombokProblem> result = Collections.emptyList();
 
-    PsiField psiField = PsiTreeUtil.getParentOfType(psiAnnotation, PsiField.class);
-    if (null != psiField) {
-      result = new ArrayList<LombokProblem>(1);
-      validate(psiAnnotation, psiField, new ProblemNewBuilder(result));
+    if (psiModifierListOwner instanceof PsiField) {
+      result = getValidationResult(psiAnnotation, createValidation(psiAnnotation, (PsiField) psiModifierListOwner)).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private Function<ProblemBuilder, Boolean> createValidation(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiField psiField) {
+    return new Function<ProblemBuilder, Boolean>() {
+      @Override
+      public Boolean fun(ProblemBuilder builder) {
+        return validate(psiAnnotation, psiField, builder);
+      }
+    };
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiField psiField, @NotNull ProblemBuilder builder);
 
   protected abstract void generatePsiElements(@NotNull PsiField psiField, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target);
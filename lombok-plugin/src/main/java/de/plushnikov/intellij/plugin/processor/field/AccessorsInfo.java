@@ -1,9 +1,14 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
@@ -18,6 +23,10 @@ import java.util.Collection;
  */
 public class AccessorsInfo {
   private static final String ACCESSORS_ANNOTATION_NAME = Accessors.class.getName();
+  private static final AccessorsInfo EMPTY = new AccessorsInfo();
+
+  private static final Key<CachedValue<AccessorsInfo>> CLASS_ACCESSORS_KEY = Key.create("lombok.accessors.class");
+  private static final Key<CachedValue<AccessorsInfo>> ANNOTATION_ACCESSORS_KEY = Key.create("lombok.accessors.annotation");
 
   private final boolean fluent;
   private final boolean chain;
@@ -42,19 +51,42 @@ public class AccessorsInfo {
     }
   }
 
-  public static AccessorsInfo build(@Nullable PsiClass psiClass) {
-    PsiClass containingClass = psiClass;
-    while (null != containingClass) {
-      final PsiAnnotation accessorsClassAnnotation = AnnotationUtil.findAnnotation(containingClass, ACCESSORS_ANNOTATION_NAME);
-      if (null != accessorsClassAnnotation) {
-        return buildFromAnnotation(accessorsClassAnnotation);
-      }
-      containingClass = containingClass.getContainingClass();
+  /**
+   * Returns effective accessors configuration of the class, defined on the class itself or on one of its containing classes.
+   * Result is cached on the class until the next structural change.
+   */
+  public static AccessorsInfo build(@Nullable final PsiClass psiClass) {
+    if (null == psiClass) {
+      return EMPTY;
     }
-    return new AccessorsInfo();
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, CLASS_ACCESSORS_KEY,
+        new CachedValueProvider<AccessorsInfo>() {
+          @Override
+          public Result<AccessorsInfo> compute() {
+            final PsiAnnotation accessorsClassAnnotation = AnnotationUtil.findAnnotation(psiClass, ACCESSORS_ANNOTATION_NAME);
+            final AccessorsInfo accessorsInfo;
+            if (null != accessorsClassAnnotation) {
+              accessorsInfo = buildFromAnnotation(accessorsClassAnnotation);
+            } else {
+              accessorsInfo = build(psiClass.getContainingClass());
+            }
+            // depends on the containing classes too, which are changed independently of this class
+            return Result.create(accessorsInfo, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  private static AccessorsInfo buildFromAnnotation(@NotNull final PsiAnnotation accessorsAnnotation) {
+    return CachedValuesManager.getManager(accessorsAnnotation.getProject()).getCachedValue(accessorsAnnotation, ANNOTATION_ACCESSORS_KEY,
+        new CachedValueProvider<AccessorsInfo>() {
+          @Override
+          public Result<AccessorsInfo> compute() {
+            return Result.create(parseAnnotation(accessorsAnnotation), PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
   }
 
-  private static AccessorsInfo buildFromAnnotation(PsiAnnotation accessorsAnnotation) {
+  private static AccessorsInfo parseAnnotation(@NotNull PsiAnnotation accessorsAnnotation) {
     Boolean fluentValue = PsiAnnotationUtil.getAnnotationValue(accessorsAnnotation, "fluent", Boolean.class);
     Boolean chainValue = PsiAnnotationUtil.getAnnotationValue(accessorsAnnotation, "chain", Boolean.class);
     Boolean chainDeclaredValue = PsiAnnotationUtil.getDeclaredAnnotationValue(accessorsAnnotation, "chain", Boolean.class);
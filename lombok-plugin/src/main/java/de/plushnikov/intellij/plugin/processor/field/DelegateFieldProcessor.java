@@ -1,6 +1,8 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
@@ -17,12 +19,16 @@ import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.impl.light.LightTypeParameter;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
 import lombok.Delegate;
 import org.apache.commons.lang.StringUtils;
@@ -33,8 +39,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Inspect and validate @Delegate lombok annotation on a field
@@ -44,10 +52,31 @@ import java.util.List;
  */
 public class DelegateFieldProcessor extends AbstractFieldProcessor {
 
+  private static final Key<CachedValue<List<Pair<PsiMethod, PsiSubstitutor>>>> DELEGATABLE_METHODS_KEY = Key.create("lombok.delegate.methods");
+  private static final Key<CachedValue<Set<String>>> OBJECT_METHOD_SIGNATURES_KEY = Key.create("lombok.delegate.object.signatures");
+
   public DelegateFieldProcessor() {
     super(Delegate.class, PsiMethod.class);
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = super.collectDependencies(psiClass);
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+      final PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiField, getSupportedAnnotation());
+      if (null != psiAnnotation) {
+        for (PsiType psiType : collectDelegateTypes(psiAnnotation, psiField)) {
+          addTypeHierarchyDependencies(psiType, result);
+        }
+        for (PsiType psiType : collectExcludeTypes(psiAnnotation)) {
+          addTypeHierarchyDependencies(psiType, result);
+        }
+      }
+    }
+    return result;
+  }
+
   @Override
   protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiField psiField, @NotNull ProblemBuilder builder) {
     boolean result = true;
@@ -71,9 +100,11 @@ public class DelegateFieldProcessor extends AbstractFieldProcessor {
     boolean result = true;
     for (PsiType type : excludes) {
       if (!(type instanceof PsiClassType)) {
-        builder.addError(String.format(
-            "'@Delegate' can only use concrete class types, not wildcards, arrays, type variables, or primitives. '%s' is wrong class type",
-            type.getCanonicalText()));
+        if (builder.isCollecting()) {
+          builder.addError(String.format(
+              "'@Delegate' can only use concrete class types, not wildcards, arrays, type variables, or primitives. '%s' is wrong class type",
+              type.getCanonicalText()));
+        }
         result = false;
       }
     }
@@ -82,28 +113,27 @@ public class DelegateFieldProcessor extends AbstractFieldProcessor {
 
   protected void generatePsiElements(@NotNull PsiField psiField, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final Project project = psiField.getProject();
-    final PsiManager manager = psiField.getContainingFile().getManager();
 
-    final Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods = new HashSet<Pair<PsiMethod, PsiSubstitutor>>();
+    final Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
 
     final Collection<PsiType> types = collectDelegateTypes(psiAnnotation, psiField);
     addMethodsOfTypes(types, includesMethods);
 
-    final Collection<Pair<PsiMethod, PsiSubstitutor>> excludeMethods = new HashSet<Pair<PsiMethod, PsiSubstitutor>>();
-    PsiClassType javaLangObjectType = PsiType.getJavaLangObject(manager, GlobalSearchScope.allScope(project));
-    addMethodsOfType(javaLangObjectType, excludeMethods);
-
+    final Collection<Pair<PsiMethod, PsiSubstitutor>> excludeMethods = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
     final Collection<PsiType> excludes = collectExcludeTypes(psiAnnotation);
     addMethodsOfTypes(excludes, excludeMethods);
 
-    final Collection<Pair<PsiMethod, PsiSubstitutor>> methodsToDelegate = findMethodsToDelegate(includesMethods, excludeMethods);
+    final Set<String> excludeSignatures = new HashSet<String>(getObjectMethodSignatures(project));
+    for (Pair<PsiMethod, PsiSubstitutor> excludeMethodPair : excludeMethods) {
+      excludeSignatures.add(PsiElementUtil.getSignatureKey(excludeMethodPair));
+    }
+
+    final Collection<Pair<PsiMethod, PsiSubstitutor>> methodsToDelegate = findMethodsToDelegate(includesMethods, excludeSignatures);
     if (!methodsToDelegate.isEmpty()) {
       final PsiClass psiClass = psiField.getContainingClass();
       for (Pair<PsiMethod, PsiSubstitutor> pair : methodsToDelegate) {
         target.add(generateDelegateMethod(psiClass, psiAnnotation, pair.getFirst(), pair.getSecond()));
       }
-      UserMapKeys.addGeneralUsageFor(psiField);
-      UserMapKeys.addReadUsageFor(psiField);
     }
   }
 
@@ -145,59 +175,67 @@ public class DelegateFieldProcessor extends AbstractFieldProcessor {
 
     PsiClass psiClass = PsiUtil.resolveClassInType(psiType);
     if (null != psiClass) {
-      List<Pair<PsiMethod, PsiSubstitutor>> acceptedMethods = psiClass.getAllMethodsAndTheirSubstitutors();
-      for (Pair<PsiMethod, PsiSubstitutor> pair : acceptedMethods) {
-        PsiMethod psiMethod = pair.getFirst();
-        if (!psiMethod.isConstructor() && psiMethod.hasModifierProperty(PsiModifier.PUBLIC) && !psiMethod.hasModifierProperty(PsiModifier.STATIC)) {
-          PsiSubstitutor combinedSubstitutor = pair.getSecond().putAll(classSubstitutor);
-          allMethods.add(new Pair<PsiMethod, PsiSubstitutor>(psiMethod, combinedSubstitutor));
-        }
+      for (Pair<PsiMethod, PsiSubstitutor> pair : getDelegatableMethods(psiClass)) {
+        PsiSubstitutor combinedSubstitutor = pair.getSecond().putAll(classSubstitutor);
+        allMethods.add(new Pair<PsiMethod, PsiSubstitutor>(pair.getFirst(), combinedSubstitutor));
       }
     }
   }
 
-  private void removeDuplicateMethods(Collection<Pair<PsiMethod, PsiSubstitutor>> allMethods) {
-    Collection<Pair<PsiMethod, PsiSubstitutor>> processedMethods = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
-    Iterator<Pair<PsiMethod, PsiSubstitutor>> iterator = allMethods.iterator();
-    while (iterator.hasNext()) {
-      Pair<PsiMethod, PsiSubstitutor> pair = iterator.next();
-      boolean acceptMethod = true;
-      for (Pair<PsiMethod, PsiSubstitutor> uniquePair : processedMethods) {
-        if (PsiElementUtil.methodMatches(pair, uniquePair)) {
-          acceptMethod = false;
-          break;
-        }
-      }
-      if (acceptMethod) {
-        processedMethods.add(pair);
-      } else {
-        iterator.remove();
-      }
-    }
+  /**
+   * Returns all public non static methods of the class with their substitutors.
+   * The list is cached on the class and shared by all fields delegating to it.
+   */
+  @NotNull
+  private List<Pair<PsiMethod, PsiSubstitutor>> getDelegatableMethods(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, DELEGATABLE_METHODS_KEY,
+        new CachedValueProvider<List<Pair<PsiMethod, PsiSubstitutor>>>() {
+          @Override
+          public Result<List<Pair<PsiMethod, PsiSubstitutor>>> compute() {
+            final List<Pair<PsiMethod, PsiSubstitutor>> result = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
+            for (Pair<PsiMethod, PsiSubstitutor> pair : psiClass.getAllMethodsAndTheirSubstitutors()) {
+              PsiMethod psiMethod = pair.getFirst();
+              if (!psiMethod.isConstructor() && psiMethod.hasModifierProperty(PsiModifier.PUBLIC) && !psiMethod.hasModifierProperty(PsiModifier.STATIC)) {
+                result.add(pair);
+              }
+            }
+            return Result.create(result, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
   }
 
-  private Collection<Pair<PsiMethod, PsiSubstitutor>> findMethodsToDelegate(Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods, Collection<Pair<PsiMethod, PsiSubstitutor>> excludeMethods) {
-    removeDuplicateMethods(includesMethods);
-    removeDuplicateMethods(excludeMethods);
-
-    if (excludeMethods.isEmpty()) {
-      return includesMethods;
-    }
+  /**
+   * Returns signatures of all java.lang.Object methods, which are never delegated.
+   * Cached per project until project roots (and with them the JDK) are changed.
+   */
+  @NotNull
+  private Set<String> getObjectMethodSignatures(@NotNull final Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, OBJECT_METHOD_SIGNATURES_KEY,
+        new CachedValueProvider<Set<String>>() {
+          @Override
+          public Result<Set<String>> compute() {
+            final Collection<Pair<PsiMethod, PsiSubstitutor>> objectMethods = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
+            final PsiClassType javaLangObjectType = PsiType.getJavaLangObject(PsiManager.getInstance(project), GlobalSearchScope.allScope(project));
+            addMethodsOfType(javaLangObjectType, objectMethods);
+
+            final Set<String> result = new HashSet<String>();
+            for (Pair<PsiMethod, PsiSubstitutor> objectMethod : objectMethods) {
+              result.add(PsiElementUtil.getSignatureKey(objectMethod));
+            }
+            return Result.create(result, ProjectRootManager.getInstance(project));
+          }
+        }, false);
+  }
 
-    Collection<Pair<PsiMethod, PsiSubstitutor>> result = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
+  private Collection<Pair<PsiMethod, PsiSubstitutor>> findMethodsToDelegate(Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods, Set<String> excludeSignatures) {
+    final Map<String, Pair<PsiMethod, PsiSubstitutor>> result = new LinkedHashMap<String, Pair<PsiMethod, PsiSubstitutor>>();
     for (Pair<PsiMethod, PsiSubstitutor> includesMethodPair : includesMethods) {
-      boolean acceptMethod = true;
-      for (Pair<PsiMethod, PsiSubstitutor> excludeMethodPair : excludeMethods) {
-        if (PsiElementUtil.methodMatches(includesMethodPair, excludeMethodPair)) {
-          acceptMethod = false;
-          break;
-        }
-      }
-      if (acceptMethod) {
-        result.add(includesMethodPair);
+      final String signature = PsiElementUtil.getSignatureKey(includesMethodPair);
+      if (!excludeSignatures.contains(signature) && !result.containsKey(signature)) {
+        result.put(signature, includesMethodPair);
       }
     }
-    return result;
+    return result.values();
   }
 
   @NotNull
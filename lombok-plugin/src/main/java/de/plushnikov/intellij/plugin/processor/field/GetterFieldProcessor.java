@@ -8,14 +8,14 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiType;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -61,9 +61,11 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
 
     if (result && lazy) {
       if (!psiField.hasModifierProperty(PsiModifier.FINAL) || !psiField.hasModifierProperty(PsiModifier.PRIVATE)) {
-        builder.addError("'lazy' requires the field to be private and final",
-            PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.PRIVATE, true, false),
-            PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, true, false));
+        if (builder.isCollecting()) {
+          builder.addError("'lazy' requires the field to be private and final",
+              PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.PRIVATE, true, false),
+              PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, true, false));
+        }
         result = false;
       }
       if (null == psiField.getInitializer()) {
@@ -94,13 +96,15 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
     if (null != psiClass) {
       final boolean isBoolean = PsiType.BOOLEAN.equals(psiField.getType());
       final Collection<String> methodNames = LombokUtils.toAllGetterNames(psiField.getName(), isBoolean);
-      final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+      final PsiClassMethodIndex methodIndex = LombokClassModel.getInstance(psiClass).getMethodIndex();
 
       for (String methodName : methodNames) {
-        if (PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 0)) {
+        if (methodIndex.hasSimilarMethod(methodName, 0)) {
           final String setterMethodName = LombokUtils.toGetterName(psiField.getName(), isBoolean);
 
-          builder.addWarning(String.format("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName));
+          if (builder.isCollecting()) {
+            builder.addWarning(String.format("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName));
+          }
           result = false;
         }
       }
@@ -124,8 +128,6 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
     PsiClass psiClass = psiField.getContainingClass();
     assert psiClass != null;
 
-    UserMapKeys.addReadUsageFor(psiField);
-
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiField.getManager(), methodName)
         .withMethodReturnType(psiField.getType())
         .withContainingClass(psiClass)
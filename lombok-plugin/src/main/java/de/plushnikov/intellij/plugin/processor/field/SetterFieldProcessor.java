@@ -10,13 +10,14 @@ import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiType;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Setter;
@@ -69,8 +70,10 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
   protected boolean validateFinalModifier(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiField psiField, @NotNull ProblemBuilder builder) {
     boolean result = true;
     if (psiField.hasModifierProperty(PsiModifier.FINAL)) {
-      builder.addError(String.format("'@%s' on final field is not allowed", psiAnnotation.getQualifiedName()),
-          PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, false, false));
+      if (builder.isCollecting()) {
+        builder.addError(String.format("'@%s' on final field is not allowed", psiAnnotation.getQualifiedName()),
+            PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, false, false));
+      }
       result = false;
     }
     return result;
@@ -85,16 +88,18 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
     boolean result = true;
     final PsiClass psiClass = psiField.getContainingClass();
     if (null != psiClass) {
-      final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+      final PsiClassMethodIndex methodIndex = LombokClassModel.getInstance(psiClass).getMethodIndex();
 
       final boolean isBoolean = PsiType.BOOLEAN.equals(psiField.getType());
       final Collection<String> methodNames = getAllSetterNames(psiField, isBoolean);
 
       for (String methodName : methodNames) {
-        if (PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 1)) {
+        if (methodIndex.hasSimilarMethod(methodName, 1)) {
           final String setterMethodName = getSetterName(psiField, isBoolean);
 
-          builder.addWarning(String.format("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName));
+          if (builder.isCollecting()) {
+            builder.addWarning(String.format("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName));
+          }
           result = false;
         }
       }
@@ -115,6 +120,13 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
     return LombokUtils.toAllSetterNames(psiField.getName(), isBoolean);
   }
 
+  /**
+   * Returns all possible setter names of the field, taken from the class model, which already computed them
+   */
+  public List<String> getAllSetterNames(@NotNull LombokClassModel.FieldModel fieldModel) {
+    return fieldModel.getSetterNames();
+  }
+
   protected String getSetterName(@NotNull PsiField psiField, boolean isBoolean) {
     final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
 
@@ -135,8 +147,6 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
     PsiClass psiClass = psiField.getContainingClass();
     assert psiClass != null;
 
-    UserMapKeys.addWriteUsageFor(psiField);
-
     PsiType returnType = getReturnType(psiField);
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiField.getManager(), methodName)
         .withMethodReturnType(returnType)
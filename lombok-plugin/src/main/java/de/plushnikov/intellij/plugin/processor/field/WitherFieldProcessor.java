@@ -11,11 +11,13 @@ import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiType;
 import com.intellij.util.StringBuilderSpinAllocator;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassMethodIndex;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.AllArgsConstructor;
@@ -77,8 +79,10 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
 
   private boolean validNonStatic(PsiField field, PsiAnnotation annotation, @NotNull final ProblemBuilder builder) {
     if (field.hasModifierProperty(PsiModifier.STATIC)) {
-      builder.addError(format("'@%s' on static field is not allowed", annotation.getQualifiedName()),
-          PsiQuickFixFactory.createModifierListFix(field, PsiModifier.STATIC, false, false));
+      if (builder.isCollecting()) {
+        builder.addError(format("'@%s' on static field is not allowed", annotation.getQualifiedName()),
+            PsiQuickFixFactory.createModifierListFix(field, PsiModifier.STATIC, false, false));
+      }
       return false;
     }
     return true;
@@ -127,8 +131,10 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
     if (hasRequiredArgsConstAnnotation && (isFinal || hasNonNullAnnotation)) {
       return true;
     } else {
-      builder.addWarning(format("Compilation will fail : no constructor with a parameter of type '%s' was found",
-          field.getType().getCanonicalText()));
+      if (builder.isCollecting()) {
+        builder.addWarning(format("Compilation will fail : no constructor with a parameter of type '%s' was found",
+            field.getType().getCanonicalText()));
+      }
       return false;
     }
   }
@@ -136,12 +142,15 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
   private boolean validIsWitherUnique(@NotNull PsiField field, @NotNull PsiAnnotation annotation, @NotNull final ProblemBuilder builder) {
     final PsiClass fieldContainingClass = field.getContainingClass();
     if (field.getName() != null && fieldContainingClass != null) {
-      if (PsiMethodUtil.hasSimilarMethod(PsiClassUtil.collectClassMethodsIntern(fieldContainingClass), witherName(field.getName()), 1)
-          || PsiMethodUtil.hasSimilarMethod(PsiClassUtil.collectClassMethodsIntern(fieldContainingClass), secondWitherName(field.getName()), 1)) {
-        builder.addWarning(
-            format("No '@%s' generated : a method named '%s' taking one parameter already exists",
-                annotation.getQualifiedName(),
-                witherName(field.getName())));
+      final PsiClassMethodIndex methodIndex = LombokClassModel.getInstance(fieldContainingClass).getMethodIndex();
+      if (methodIndex.hasSimilarMethod(witherName(field.getName()), 1)
+          || methodIndex.hasSimilarMethod(secondWitherName(field.getName()), 1)) {
+        if (builder.isCollecting()) {
+          builder.addWarning(
+              format("No '@%s' generated : a method named '%s' taking one parameter already exists",
+                  annotation.getQualifiedName(),
+                  witherName(field.getName())));
+        }
         return false;
       }
     }
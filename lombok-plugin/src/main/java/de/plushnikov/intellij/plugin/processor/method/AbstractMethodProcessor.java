@@ -4,11 +4,10 @@ import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.util.Function;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
-import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -38,7 +37,7 @@ public abstract class AbstractMethodProcessor extends AbstractProcessor implemen
     for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
       PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiMethod, getSupportedAnnotation());
       if (null != psiAnnotation) {
-        if (validate(psiAnnotation, psiMethod, ProblemEmptyBuilder.getInstance())) {
+        if (isValid(psiAnnotation, createValidation(psiAnnotation, psiMethod))) {
           processIntern(psiMethod, psiAnnotation, result);
         }
       }
@@ -60,18 +59,26 @@ public abstract class AbstractMethodProcessor extends AbstractProcessor implemen
 
   @NotNull
   @Override
-  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation) {
+  public Collection<LombokProblem> verifyAnnotation(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiModifierListOwner psiModifierListOwner) {
     Collection<LombokProblem> result = Collections.emptyList();
 
-    PsiMethod psiMethod = PsiTreeUtil.getParentOfType(psiAnnotation, PsiMethod.class);
-    if (null != psiMethod) {
-      result = new ArrayList<LombokProblem>(1);
-      validate(psiAnnotation, psiMethod, new ProblemNewBuilder(result));
+    if (psiModifierListOwner instanceof PsiMethod) {
+      result = getValidationResult(psiAnnotation, createValidation(psiAnnotation, (PsiMethod) psiModifierListOwner)).getProblems();
     }
 
     return result;
   }
 
+  @NotNull
+  private Function<ProblemBuilder, Boolean> createValidation(@NotNull final PsiAnnotation psiAnnotation, @NotNull final PsiMethod psiMethod) {
+    return new Function<ProblemBuilder, Boolean>() {
+      @Override
+      public Boolean fun(ProblemBuilder builder) {
+        return validate(psiAnnotation, psiMethod, builder);
+      }
+    };
+  }
+
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiMethod psiMethod, @NotNull ProblemBuilder builder);
 
   protected abstract void processIntern(PsiMethod psiMethod, PsiAnnotation psiAnnotation, List<? super PsiElement> target);
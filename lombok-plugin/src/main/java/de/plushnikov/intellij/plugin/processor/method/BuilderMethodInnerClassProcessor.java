@@ -7,6 +7,7 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiParameter;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.ToStringProcessor;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.NoArgsConstructorProcessor;
@@ -71,7 +72,7 @@ public class BuilderMethodInnerClassProcessor extends AbstractMethodProcessor {
     final String innerClassSimpleName = BuilderUtil.createBuilderClassName(psiAnnotation, containingClass);
     final PsiClass innerClassByName = PsiClassUtil.getInnerClassInternByName(containingClass, innerClassSimpleName);
     if (innerClassByName != null) {
-      if (shouldAddErrors) {
+      if (shouldAddErrors && builder.isCollecting()) {
         builder.addError(String.format("Not generated '%s' class: A class with same name already exists. This feature is not implemented and it's not planned.", innerClassSimpleName));
       }
       return false;
@@ -98,7 +99,7 @@ public class BuilderMethodInnerClassProcessor extends AbstractMethodProcessor {
   }
 
   private Collection<PsiMethod> createConstructors(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    NoArgsConstructorProcessor noArgsConstructorProcessor = new NoArgsConstructorProcessor();
+    NoArgsConstructorProcessor noArgsConstructorProcessor = LombokProcessorExtensionPoint.getProcessor(NoArgsConstructorProcessor.class);
     return noArgsConstructorProcessor.createNoArgsConstructor(psiClass, PsiModifier.PACKAGE_LOCAL, psiAnnotation);
   }
 
@@ -117,7 +118,7 @@ public class BuilderMethodInnerClassProcessor extends AbstractMethodProcessor {
     List<PsiMethod> methods = new ArrayList<PsiMethod>();
     methods.addAll(createSetterMethods(innerClass, psiMethod, psiAnnotation));
     methods.add(createBuildMethod(parentClass, innerClass, psiMethod, psiAnnotation));
-    methods.addAll(new ToStringProcessor().createToStringMethod(innerClass, psiAnnotation));
+    methods.addAll(LombokProcessorExtensionPoint.getProcessor(ToStringProcessor.class).createToStringMethod(innerClass, psiAnnotation));
     return methods;
   }
 
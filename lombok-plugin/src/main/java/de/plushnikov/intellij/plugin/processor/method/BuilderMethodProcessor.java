@@ -6,10 +6,10 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.BuilderUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.experimental.Builder;
 import org.jetbrains.annotations.NotNull;
 
@@ -41,7 +41,7 @@ public class BuilderMethodProcessor extends BuilderMethodInnerClassProcessor {
     assert innerClassByName != null; // BuilderMethodClassProcessor should run first
 
     final String builderMethodName = BuilderUtil.createBuilderMethodName(psiAnnotation);
-    if (!PsiMethodUtil.hasMethodByName(PsiClassUtil.collectClassMethodsIntern(containingClass), builderMethodName)) {
+    if (!LombokClassModel.getInstance(containingClass).getMethodIndex().hasMethodByName(builderMethodName)) {
       LombokLightMethodBuilder method = new LombokLightMethodBuilder(containingClass.getManager(), builderMethodName)
           .withMethodReturnType(PsiClassUtil.getTypeWithGenerics(innerClassByName))
           .withContainingClass(containingClass)
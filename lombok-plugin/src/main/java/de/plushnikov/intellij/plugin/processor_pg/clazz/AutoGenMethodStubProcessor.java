@@ -32,6 +32,16 @@ public class AutoGenMethodStubProcessor extends AbstractClassProcessor {
     super(AutoGenMethodStub.class, PsiMethod.class);
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = super.collectDependencies(psiClass);
+    for (PsiClassType superType : psiClass.getSuperTypes()) {
+      addTypeHierarchyDependencies(superType, result);
+    }
+    return result;
+  }
+
   @Override
   protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     return validateAnnotationOnRightType(psiClass, builder);
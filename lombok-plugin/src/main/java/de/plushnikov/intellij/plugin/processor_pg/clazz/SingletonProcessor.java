@@ -8,10 +8,10 @@ import com.intellij.psi.PsiModifier;
 import com.intellij.psi.util.PsiTypesUtil;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.thirdparty.ErrorMessages;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Singleton;
 import org.jetbrains.annotations.NotNull;
 
@@ -32,6 +32,14 @@ public class SingletonProcessor extends AbstractClassProcessor {
     super(Singleton.class, PsiMethod.class);
   }
 
+  @NotNull
+  @Override
+  public Collection<Object> collectDependencies(@NotNull PsiClass psiClass) {
+    final Collection<Object> result = super.collectDependencies(psiClass);
+    addSuperClassDependencies(psiClass, result);
+    return result;
+  }
+
   @Override
   protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     boolean result = validateAnnotationOnRigthType(psiClass, builder);
@@ -63,9 +71,10 @@ public class SingletonProcessor extends AbstractClassProcessor {
   protected boolean validateExistingMethods(@NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     boolean result = true;
 
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, METHOD_NAME)) {
-      builder.addWarning(String.format("Not generated '%s'(): A method with same name already exists", METHOD_NAME));
+    if (LombokClassModel.getInstance(psiClass).getMethodIndex().hasMethodByName(METHOD_NAME)) {
+      if (builder.isCollecting()) {
+        builder.addWarning(String.format("Not generated '%s'(): A method with same name already exists", METHOD_NAME));
+      }
       result = false;
     }
 
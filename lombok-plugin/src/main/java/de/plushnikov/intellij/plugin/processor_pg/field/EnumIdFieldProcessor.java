@@ -9,7 +9,6 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTypesUtil;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.field.AbstractFieldProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
@@ -46,7 +45,7 @@ public class EnumIdFieldProcessor extends AbstractFieldProcessor {
   private boolean validateEnum(PsiClass psiClass, ProblemBuilder builder) {
     boolean result = true;
     if (!psiClass.isEnum()) {
-      builder.addError(String.format("'@EnumId' can be used on enum fields only"));
+      builder.addError("'@EnumId' can be used on enum fields only");
       result = false;
     }
     return result;
@@ -61,8 +60,6 @@ public class EnumIdFieldProcessor extends AbstractFieldProcessor {
     PsiClass psiClass = psiField.getContainingClass();
     assert psiClass != null;
 
-    UserMapKeys.addWriteUsageFor(psiField);
-
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiField.getManager(), methodName)
         .withMethodReturnType(PsiTypesUtil.getClassType(psiClass))
         .withContainingClass(psiClass)
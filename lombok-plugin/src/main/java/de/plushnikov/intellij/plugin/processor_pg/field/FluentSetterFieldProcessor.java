@@ -4,6 +4,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiType;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
 import de.plushnikov.intellij.plugin.processor.field.SetterFieldProcessor;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.FluentSetter;
@@ -29,6 +30,11 @@ public class FluentSetterFieldProcessor extends SetterFieldProcessor {
     return Arrays.asList(getSetterName(psiField, isBoolean));
   }
 
+  @Override
+  public List<String> getAllSetterNames(@NotNull LombokClassModel.FieldModel fieldModel) {
+    return getAllSetterNames(fieldModel.getPsiField(), fieldModel.isBoolean());
+  }
+
   @Override
   protected String getSetterName(@NotNull PsiField psiField, boolean isBoolean) {
     return psiField.getName();
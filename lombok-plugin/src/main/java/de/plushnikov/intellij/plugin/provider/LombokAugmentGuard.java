@@ -0,0 +1,124 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of augmentation rounds running in the current thread.
+ * Prevents recursive augmentation of the same class by {@link RecursionManager} and counts nested rounds started from processors.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokAugmentGuard {
+  private static final RecursionGuard RECURSION_GUARD = RecursionManager.createGuard("lombok.augment");
+
+  /**
+   * Dependency for results computed while a recursive round was prevented: they are incomplete and must not be cached
+   */
+  private static final ModificationTracker NOT_CACHEABLE = new ModificationTracker() {
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    @Override
+    public long getModificationCount() {
+      return modificationCount.incrementAndGet();
+    }
+  };
+
+  private static final ThreadLocal<int[]> CURRENT_DEPTH = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
+    }
+  };
+
+  private static final AtomicLong NESTED_ROUNDS = new AtomicLong();
+  private static final AtomicLong RECURSIVE_ROUNDS = new AtomicLong();
+  private static final AtomicInteger MAX_DEPTH = new AtomicInteger();
+
+  /**
+   * Runs augmentation of the class for given element type
+   *
+   * @return result of the computation or null, if the same augmentation is already running in this thread.
+   * In the last case all results computed on the stack in between are marked as not cacheable by {@link RecursionManager}
+   */
+  @Nullable
+  public static <T> T doPreventingRecursion(@NotNull PsiClass psiClass, @NotNull Class<? extends PsiElement> type, @NotNull final Computable<T> computation) {
+    final T result = RECURSION_GUARD.doPreventingRecursion(Pair.create(psiClass, type), false, new Computable<T>() {
+      @Override
+      public T compute() {
+        final int[] currentDepth = CURRENT_DEPTH.get();
+        final int depth = ++currentDepth[0];
+        try {
+          if (depth > 1) {
+            NESTED_ROUNDS.incrementAndGet();
+          }
+          int maxDepth = MAX_DEPTH.get();
+          while (depth > maxDepth && !MAX_DEPTH.compareAndSet(maxDepth, depth)) {
+            maxDepth = MAX_DEPTH.get();
+          }
+          return computation.compute();
+        } finally {
+          currentDepth[0]--;
+        }
+      }
+    });
+    if (null == result) {
+      RECURSIVE_ROUNDS.incrementAndGet();
+    }
+    return result;
+  }
+
+  /**
+   * Marks current stack, to check later by {@link RecursionGuard.StackStamp#mayCacheNow()} if a recursive round was prevented in between
+   */
+  @NotNull
+  public static RecursionGuard.StackStamp markStack() {
+    return RECURSION_GUARD.markStack();
+  }
+
+  /**
+   * Returns dependency, which invalidates cached value on every access
+   */
+  @NotNull
+  public static ModificationTracker getNotCacheableDependency() {
+    return NOT_CACHEABLE;
+  }
+
+  /**
+   * @return count of augmentation rounds running in the current thread
+   */
+  public static int getCurrentDepth() {
+    return CURRENT_DEPTH.get()[0];
+  }
+
+  public static int getMaxDepth() {
+    return MAX_DEPTH.get();
+  }
+
+  public static long getNestedRoundsCount() {
+    return NESTED_ROUNDS.get();
+  }
+
+  public static long getRecursiveRoundsCount() {
+    return RECURSIVE_ROUNDS.get();
+  }
+
+  /**
+   * Resets collected statistics, rounds running at the moment are not affected
+   */
+  public static void reset() {
+    NESTED_ROUNDS.set(0);
+    RECURSIVE_ROUNDS.set(0);
+    MAX_DEPTH.set(0);
+  }
+}
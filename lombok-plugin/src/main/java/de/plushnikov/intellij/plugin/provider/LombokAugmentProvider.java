@@ -3,26 +3,41 @@ package de.plushnikov.intellij.plugin.provider;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.augment.PsiAugmentProvider;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.extension.LombokPresentIndex;
 import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.settings.ProjectSettings;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides support for lombok generated elements
@@ -32,19 +47,45 @@ import java.util.Scanner;
 public class LombokAugmentProvider extends PsiAugmentProvider {
   private static final Logger log = Logger.getInstance(LombokAugmentProvider.class.getName());
 
+  private static final Comparator<Processor> PROCESSOR_ORDER_COMPARATOR = new Comparator<Processor>() {
+    @Override
+    public int compare(Processor o1, Processor o2) {
+      final int order1 = LombokProcessorExtensionPoint.getProcessorOrder(o1);
+      final int order2 = LombokProcessorExtensionPoint.getProcessorOrder(o2);
+      return order1 < order2 ? -1 : (order1 == order2 ? 0 : 1);
+    }
+  };
+
+  private static final ConcurrentMap<Processor, Key<CachedValue<List<? super PsiElement>>>> PROCESSOR_CACHE_KEYS =
+      new ConcurrentHashMap<Processor, Key<CachedValue<List<? super PsiElement>>>>();
+
+  private static final Key<CachedValue<List<PsiElement>>> METHOD_AUGMENTS_KEY = Key.create("lombok.augments.method");
+  private static final Key<CachedValue<List<PsiElement>>> FIELD_AUGMENTS_KEY = Key.create("lombok.augments.field");
+  private static final Key<CachedValue<List<PsiElement>>> CLASS_AUGMENTS_KEY = Key.create("lombok.augments.class");
+
+  private static final String METHOD_AUGMENT_CALLS = LombokMetrics.AUGMENT_CALLS + PsiMethod.class.getSimpleName();
+  private static final String FIELD_AUGMENT_CALLS = LombokMetrics.AUGMENT_CALLS + PsiField.class.getSimpleName();
+  private static final String CLASS_AUGMENT_CALLS = LombokMetrics.AUGMENT_CALLS + PsiClass.class.getSimpleName();
+  private static final String OTHER_AUGMENT_CALLS = LombokMetrics.AUGMENT_CALLS + "other";
+
   public LombokAugmentProvider() {
     log.debug("LombokAugmentProvider created");
   }
 
   @NotNull
   @Override
-  public <Psi extends PsiElement> List<Psi> getAugments(@NotNull PsiElement element, @NotNull Class<Psi> type) {
+  public <Psi extends PsiElement> List<Psi> getAugments(@NotNull PsiElement element, @NotNull final Class<Psi> type) {
     final List<Psi> emptyResult = Collections.emptyList();
+    LombokMetrics.count(getAugmentCallsCounter(type));
     // Expecting that we are only augmenting an PsiClass
     // Don't filter !isPhysical elements or code auto completion will not work
     if (!(element instanceof PsiClass) || !element.isValid()) {
       return emptyResult;
     }
+    // compiled classes already contain all lombok generated members
+    if (element instanceof PsiCompiledElement) {
+      return emptyResult;
+    }
     // skip processing during index rebuild
     final Project project = element.getProject();
     if (DumbService.getInstance(project).isDumb()) {
@@ -55,7 +96,7 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
       return emptyResult;
     }
 
-    boolean isLombokPresent = UserMapKeys.isLombokPossiblePresent(element);
+    boolean isLombokPresent = LombokPresentIndex.isLombokPossiblePresent(element);
     if (!isLombokPresent) {
       if (log.isDebugEnabled()) {
         log.debug(String.format("Skipped call for type: %s class: %s", type, ((PsiClass) element).getQualifiedName()));
@@ -63,70 +104,187 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
       return emptyResult;
     }
 
-    return process(type, project, (PsiClass) element);
+    final PsiClass psiClass = (PsiClass) element;
+    final List<Psi> result = LombokAugmentGuard.doPreventingRecursion(psiClass, type, new Computable<List<Psi>>() {
+      @Override
+      public List<Psi> compute() {
+        if (log.isDebugEnabled() && LombokAugmentGuard.getCurrentDepth() > 1) {
+          log.debug(String.format("Nested call for type: %s class: %s depth: %d", type, psiClass.getQualifiedName(), LombokAugmentGuard.getCurrentDepth()));
+        }
+        return getCachedAugments(type, project, psiClass);
+      }
+    });
+    if (null == result) {
+      if (log.isDebugEnabled()) {
+        log.debug(String.format("Recursive call for type: %s class: %s", type, psiClass.getQualifiedName()));
+      }
+      return emptyResult;
+    }
+    return result;
   }
 
-  private <Psi extends PsiElement> List<Psi> process(Class<Psi> type, Project project, PsiClass psiClass) {
-    boolean isLombokPossiblePresent = true;
-    try {
-      isLombokPossiblePresent = verifyLombokPresent(psiClass);
-    } catch (IOException ex) {
-      log.warn("Exception during check for Lombok", ex);
+  private <Psi extends PsiElement> List<Psi> getCachedAugments(Class<Psi> type, Project project, PsiClass psiClass) {
+    final Key<CachedValue<List<PsiElement>>> cacheKey = getCacheKey(type);
+    if (null == cacheKey) {
+      return process(type, project, psiClass);
     }
-    UserMapKeys.updateLombokPresent(psiClass, isLombokPossiblePresent);
+    LombokMetrics.count(LombokMetrics.AUGMENT_CACHE_REQUESTS);
 
-    if (isLombokPossiblePresent) {
-      if (log.isDebugEnabled()) {
-        log.debug(String.format("Process call for type: %s class: %s", type, psiClass.getQualifiedName()));
-      }
+    // Every requested element type is cached separately: processors for one type (e.g. builder methods)
+    // may ask for members of another type (e.g. inner classes) of the same class while being computed
+    final List<PsiElement> cachedResult = CachedValuesManager.getManager(project).getCachedValue(psiClass, cacheKey,
+        new AugmentsCachedValueProvider(type, project, psiClass), false);
+    return (List<Psi>) cachedResult;
+  }
 
-      cleanAttributeUsage(psiClass);
+  private Key<CachedValue<List<PsiElement>>> getCacheKey(Class<? extends PsiElement> type) {
+    if (type == PsiMethod.class) {
+      return METHOD_AUGMENTS_KEY;
+    } else if (type == PsiField.class) {
+      return FIELD_AUGMENTS_KEY;
+    } else if (type == PsiClass.class) {
+      return CLASS_AUGMENTS_KEY;
+    }
+    return null;
+  }
 
-      final List<Psi> result = new ArrayList<Psi>();
-      for (Processor processor : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
-        if (processor.canProduce(type) && processor.isEnabled(project)) {
-          result.addAll((Collection<Psi>) processor.process(psiClass));
-        }
-      }
-      return result;
-    } else {
-      if (log.isDebugEnabled()) {
-        log.debug(String.format("Skipped call for type: %s class: %s", type, psiClass.getQualifiedName()));
+  private static String getAugmentCallsCounter(Class<? extends PsiElement> type) {
+    if (type == PsiMethod.class) {
+      return METHOD_AUGMENT_CALLS;
+    } else if (type == PsiField.class) {
+      return FIELD_AUGMENT_CALLS;
+    } else if (type == PsiClass.class) {
+      return CLASS_AUGMENT_CALLS;
+    }
+    return OTHER_AUGMENT_CALLS;
+  }
+
+  private class AugmentsCachedValueProvider implements CachedValueProvider<List<PsiElement>> {
+    private final Class<? extends PsiElement> type;
+    private final Project project;
+    private final PsiClass psiClass;
+
+    private AugmentsCachedValueProvider(Class<? extends PsiElement> type, Project project, PsiClass psiClass) {
+      this.type = type;
+      this.project = project;
+      this.psiClass = psiClass;
+    }
+
+    @Override
+    public Result<List<PsiElement>> compute() {
+      LombokMetrics.count(LombokMetrics.AUGMENT_CACHE_MISSES);
+      final RecursionGuard.StackStamp stamp = LombokAugmentGuard.markStack();
+      final List<PsiElement> result = Collections.unmodifiableList(new ArrayList<PsiElement>(process(type, project, psiClass)));
+      if (!stamp.mayCacheNow()) {
+        // a recursive round was skipped while computing, so the result may miss some members
+        return Result.create(result, LombokAugmentGuard.getNotCacheableDependency());
       }
+      // lombok generated members depend on the class structure, annotations and hierarchy only, never on code blocks
+      return Result.create(result, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+    }
+  }
+
+  private <Psi extends PsiElement> List<Psi> process(Class<Psi> type, Project project, PsiClass psiClass) {
+    if (log.isDebugEnabled()) {
+      log.debug(String.format("Process call for type: %s class: %s", type, psiClass.getQualifiedName()));
+    }
+
+    final List<Psi> result = new ArrayList<Psi>();
+    for (Processor processor : collectProcessors(type, project, psiClass)) {
+      result.addAll((Collection<Psi>) getProcessorOutput(processor, project, psiClass));
     }
-    return Collections.emptyList();
+    return result;
   }
 
-  private boolean verifyLombokPresent(PsiClass psiClass) throws IOException {
-    boolean isLombokPossiblePresent = true;
-    final PsiFile containingFile = psiClass.getContainingFile();
-    if (null != containingFile) {
-      VirtualFile virtualFile = containingFile.getVirtualFile();
-      if (null != virtualFile) {
-        InputStream inputStream = null;
-        try {
-          inputStream = virtualFile.getInputStream();
-          Scanner scanner = new Scanner(inputStream);
-          while (scanner.hasNextLine()) {
-            final String lineFromFile = scanner.nextLine();
-            isLombokPossiblePresent = lineFromFile.contains("lombok.");
-            if (isLombokPossiblePresent) {
-              break;
+  /**
+   * Returns output of the processor for the class, cached until one of the dependencies of this processor changes
+   */
+  private List<? super PsiElement> getProcessorOutput(@NotNull final Processor processor, @NotNull final Project project, @NotNull final PsiClass psiClass) {
+    LombokMetrics.count(LombokMetrics.PROCESSOR_CACHE_REQUESTS);
+    return CachedValuesManager.getManager(project).getCachedValue(psiClass, getProcessorCacheKey(processor),
+        new CachedValueProvider<List<? super PsiElement>>() {
+          @Override
+          public Result<List<? super PsiElement>> compute() {
+            LombokMetrics.count(LombokMetrics.PROCESSOR_CACHE_MISSES);
+            final RecursionGuard.StackStamp stamp = LombokAugmentGuard.markStack();
+            final Collection<Object> dependencies = processor.collectDependencies(psiClass);
+
+            // a class of a non physical copy of the file (e.g. created by code completion) with unchanged declarations
+            // gets output of the original class, rebound to the copy
+            List<? super PsiElement> output = null;
+            final PsiClass originalClass = LombokCompletionCopySupport.getUnchangedOriginalOrSelf(psiClass);
+            if (originalClass != psiClass) {
+              output = LombokCompletionCopySupport.rebind(getProcessorOutput(processor, project, originalClass), originalClass, psiClass);
+              if (null != output) {
+                LombokMetrics.count(LombokMetrics.PROCESSOR_COPY_REUSES);
+                dependencies.add(originalClass);
+              }
             }
+            if (null == output) {
+              final long startTime = System.nanoTime();
+              output = processor.process(psiClass);
+              LombokMetrics.processorRun(processor, System.nanoTime() - startTime, output.size());
+            }
+
+            if (!stamp.mayCacheNow()) {
+              return Result.<List<? super PsiElement>>create(output, LombokAugmentGuard.getNotCacheableDependency());
+            }
+            return Result.<List<? super PsiElement>>create(output, dependencies.toArray());
           }
-        } finally {
-          if (null != inputStream) {
-            inputStream.close();
-          }
-        }
+        }, false);
+  }
+
+  @NotNull
+  private static Key<CachedValue<List<? super PsiElement>>> getProcessorCacheKey(@NotNull Processor processor) {
+    Key<CachedValue<List<? super PsiElement>>> cacheKey = PROCESSOR_CACHE_KEYS.get(processor);
+    if (null == cacheKey) {
+      cacheKey = Key.create("lombok.processor.output." + processor.getClass().getName());
+      final Key<CachedValue<List<? super PsiElement>>> existingKey = PROCESSOR_CACHE_KEYS.putIfAbsent(processor, cacheKey);
+      if (null != existingKey) {
+        cacheKey = existingKey;
       }
     }
-    return isLombokPossiblePresent;
+    return cacheKey;
   }
 
-  protected void cleanAttributeUsage(PsiClass psiClass) {
+  /**
+   * Collects all lombok annotations of the class, its own fields and methods in one pass
+   * and returns only processors registered for them, in order of their registration
+   */
+  private List<Processor> collectProcessors(Class<? extends PsiElement> type, Project project, PsiClass psiClass) {
+    final Set<Processor> processors = new HashSet<Processor>();
+    addProcessors(psiClass, type, project, processors);
     for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
-      UserMapKeys.removeAllUsagesFrom(psiField);
+      addProcessors(psiField, type, project, processors);
+    }
+    for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+      addProcessors(psiMethod, type, project, processors);
+    }
+
+    final List<Processor> result = new ArrayList<Processor>(processors);
+    Collections.sort(result, PROCESSOR_ORDER_COMPARATOR);
+    return result;
+  }
+
+  private void addProcessors(PsiModifierListOwner psiModifierListOwner, Class<? extends PsiElement> type, Project project, Set<Processor> target) {
+    final PsiModifierList modifierList = psiModifierListOwner.getModifierList();
+    if (null == modifierList) {
+      return;
+    }
+
+    for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+      final PsiJavaCodeReferenceElement referenceElement = psiAnnotation.getNameReferenceElement();
+      final String referenceName = null == referenceElement ? null : referenceElement.getReferenceName();
+      if (null != referenceName && LombokProcessorExtensionPoint.isPossibleLombokAnnotation(referenceName)) {
+        final String qualifiedName = PsiAnnotationUtil.findQualifiedName(psiAnnotation, LombokProcessorExtensionPoint.getQualifiedNames(referenceName));
+        if (null != qualifiedName) {
+          for (Processor processor : LombokProcessorExtensionPoint.getProcessors(qualifiedName)) {
+            if (processor.canProduce(type) && processor.isEnabled(project)) {
+              target.add(processor);
+            }
+          }
+        }
+      }
     }
   }
 
@@ -0,0 +1,216 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.codeInsight.completion.CompletionUtil;
+import com.intellij.openapi.util.Comparing;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reuses lombok generated members of the original class for a class of a non physical copy of the file,
+ * for example created by code completion. Members are reused only, if declarations of both classes are equal,
+ * so only the class with changed declarations (e.g. containing the completion dummy identifier) is processed again.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokCompletionCopySupport {
+  private static final Key<CachedValue<PsiClass>> UNCHANGED_ORIGINAL_KEY = Key.create("lombok.unchanged.original.class");
+
+  /**
+   * Returns physical original class with the same declarations as the given class from a non physical copy of the file.
+   * Comparison is done once and cached until the next structural change
+   *
+   * @return original class or the given class itself, if there is no such original class
+   */
+  @NotNull
+  public static PsiClass getUnchangedOriginalOrSelf(@NotNull final PsiClass psiClass) {
+    final PsiFile psiFile = psiClass.getContainingFile();
+    if (psiClass.isPhysical() || null == psiFile || psiFile.getOriginalFile() == psiFile) {
+      return psiClass;
+    }
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, UNCHANGED_ORIGINAL_KEY,
+        new CachedValueProvider<PsiClass>() {
+          @Override
+          public Result<PsiClass> compute() {
+            final PsiClass originalClass = CompletionUtil.getOriginalOrSelf(psiClass);
+            final boolean unchanged = originalClass != psiClass && originalClass.isValid() && originalClass.isPhysical()
+                && !originalClass.hasTypeParameters() && hasEqualDeclarations(originalClass, psiClass);
+            return Result.create(unchanged ? originalClass : psiClass, psiFile, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  /**
+   * Compares everything lombok processors can see of both classes without looking into code blocks:
+   * modifier lists with annotations, supertypes, fields and method signatures, inner classes.
+   */
+  private static boolean hasEqualDeclarations(@NotNull PsiClass first, @NotNull PsiClass second) {
+    if (!Comparing.equal(first.getName(), second.getName()) || first.isInterface() != second.isInterface() ||
+        first.isEnum() != second.isEnum() || first.isAnnotationType() != second.isAnnotationType()) {
+      return false;
+    }
+    if (!hasEqualText(first.getModifierList(), second.getModifierList()) ||
+        !hasEqualText(first.getExtendsList(), second.getExtendsList()) ||
+        !hasEqualText(first.getImplementsList(), second.getImplementsList())) {
+      return false;
+    }
+
+    final Collection<PsiField> firstFields = PsiClassUtil.collectClassFieldsIntern(first);
+    final Collection<PsiField> secondFields = PsiClassUtil.collectClassFieldsIntern(second);
+    if (firstFields.size() != secondFields.size()) {
+      return false;
+    }
+    final Iterator<PsiField> secondFieldIterator = secondFields.iterator();
+    for (PsiField firstField : firstFields) {
+      final PsiField secondField = secondFieldIterator.next();
+      if (!Comparing.equal(firstField.getName(), secondField.getName()) ||
+          !hasEqualText(firstField.getModifierList(), secondField.getModifierList()) ||
+          !hasEqualText(firstField.getTypeElement(), secondField.getTypeElement())) {
+        return false;
+      }
+    }
+
+    final Collection<PsiMethod> firstMethods = PsiClassUtil.collectClassMethodsIntern(first);
+    final Collection<PsiMethod> secondMethods = PsiClassUtil.collectClassMethodsIntern(second);
+    if (firstMethods.size() != secondMethods.size()) {
+      return false;
+    }
+    final Iterator<PsiMethod> secondMethodIterator = secondMethods.iterator();
+    for (PsiMethod firstMethod : firstMethods) {
+      final PsiMethod secondMethod = secondMethodIterator.next();
+      if (!Comparing.equal(firstMethod.getName(), secondMethod.getName()) ||
+          !hasEqualText(firstMethod.getModifierList(), secondMethod.getModifierList()) ||
+          !hasEqualText(firstMethod.getReturnTypeElement(), secondMethod.getReturnTypeElement()) ||
+          !hasEqualText(firstMethod.getTypeParameterList(), secondMethod.getTypeParameterList()) ||
+          !hasEqualText(firstMethod.getParameterList(), secondMethod.getParameterList()) ||
+          !hasEqualText(firstMethod.getThrowsList(), secondMethod.getThrowsList())) {
+        return false;
+      }
+    }
+
+    final Collection<PsiClass> firstInnerClasses = PsiClassUtil.collectInnerClassesIntern(first);
+    final Collection<PsiClass> secondInnerClasses = PsiClassUtil.collectInnerClassesIntern(second);
+    if (firstInnerClasses.size() != secondInnerClasses.size()) {
+      return false;
+    }
+    final Iterator<PsiClass> secondInnerClassIterator = secondInnerClasses.iterator();
+    for (PsiClass firstInnerClass : firstInnerClasses) {
+      if (!hasEqualDeclarations(firstInnerClass, secondInnerClassIterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasEqualText(@Nullable PsiElement first, @Nullable PsiElement second) {
+    if (null == first || null == second) {
+      return first == second;
+    }
+    return first.getTextLength() == second.getTextLength() && first.getText().equals(second.getText());
+  }
+
+  /**
+   * Rebinds generated members of the original class to the copy class
+   *
+   * @return rebound members or null, if one of the members can't be rebound and the copy class has to be processed on its own
+   */
+  @Nullable
+  public static List<? super PsiElement> rebind(@NotNull List<? super PsiElement> originalOutput, @NotNull PsiClass originalClass, @NotNull PsiClass copyClass) {
+    final List<? super PsiElement> result = new ArrayList<PsiElement>(originalOutput.size());
+    for (Object originalElement : originalOutput) {
+      if (null != originalElement && originalElement.getClass() == LombokLightMethodBuilder.class) {
+        final LombokLightMethodBuilder originalMethod = (LombokLightMethodBuilder) originalElement;
+        final PsiElement navigationElement = findCopyNavigationElement(originalMethod, originalClass, copyClass);
+        if (null == navigationElement) {
+          return null;
+        }
+        result.add(originalMethod.rebind(copyClass, navigationElement == originalMethod ? null : navigationElement));
+      } else if (null != originalElement && originalElement.getClass() == LombokLightFieldBuilder.class) {
+        final LombokLightFieldBuilder originalField = (LombokLightFieldBuilder) originalElement;
+        final PsiElement navigationElement = findCopyNavigationElement(originalField, originalClass, copyClass);
+        if (null == navigationElement) {
+          return null;
+        }
+        result.add(originalField.rebind(copyClass, navigationElement == originalField ? null : navigationElement));
+      } else {
+        // generated classes contain members bound to them, they are generated again for the copy
+        return null;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds element of the copy class corresponding to the navigation element of a generated member of the original class
+   *
+   * @return corresponding element, the generated member itself, if it navigates to itself, or null, if there is no such element
+   */
+  @Nullable
+  private static PsiElement findCopyNavigationElement(@NotNull PsiElement generatedElement, @NotNull PsiClass originalClass, @NotNull PsiClass copyClass) {
+    final PsiElement navigationElement = generatedElement.getNavigationElement();
+    if (navigationElement == generatedElement) {
+      return generatedElement;
+    }
+    if (navigationElement instanceof PsiAnnotation) {
+      final PsiModifierListOwner annotationOwner = PsiAnnotationUtil.getAnnotationOwner((PsiAnnotation) navigationElement);
+      final PsiElement copyOwner = null == annotationOwner ? null : findCopyMember(annotationOwner, originalClass, copyClass);
+      if (copyOwner instanceof PsiModifierListOwner) {
+        final PsiModifierList originalModifierList = annotationOwner.getModifierList();
+        final PsiModifierList copyModifierList = ((PsiModifierListOwner) copyOwner).getModifierList();
+        if (null != originalModifierList && null != copyModifierList) {
+          final int index = indexOf(originalModifierList.getAnnotations(), navigationElement);
+          final PsiAnnotation[] copyAnnotations = copyModifierList.getAnnotations();
+          return index >= 0 && index < copyAnnotations.length ? copyAnnotations[index] : null;
+        }
+      }
+      return null;
+    }
+    return findCopyMember(navigationElement, originalClass, copyClass);
+  }
+
+  @Nullable
+  private static PsiElement findCopyMember(@NotNull PsiElement originalMember, @NotNull PsiClass originalClass, @NotNull PsiClass copyClass) {
+    if (originalMember == originalClass) {
+      return copyClass;
+    }
+    if (originalMember instanceof PsiField && ((PsiField) originalMember).getContainingClass() == originalClass) {
+      return PsiClassUtil.getFieldInternByName(copyClass, ((PsiField) originalMember).getName());
+    }
+    if (originalMember instanceof PsiMethod && ((PsiMethod) originalMember).getContainingClass() == originalClass) {
+      final int index = indexOf(PsiClassUtil.collectClassMethodsIntern(originalClass).toArray(), originalMember);
+      final Object[] copyMethods = PsiClassUtil.collectClassMethodsIntern(copyClass).toArray();
+      return index >= 0 && index < copyMethods.length ? (PsiElement) copyMethods[index] : null;
+    }
+    return null;
+  }
+
+  private static int indexOf(@NotNull Object[] elements, @NotNull Object element) {
+    for (int i = 0; i < elements.length; i++) {
+      if (elements[i] == element) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -1,8 +1,12 @@
 package de.plushnikov.intellij.plugin.provider;
 
 import com.intellij.codeInsight.daemon.ImplicitUsageProvider;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiElement;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
+import com.intellij.psi.PsiField;
+import de.plushnikov.intellij.plugin.extension.LombokPresentIndex;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides implicit usages of lombok fields
@@ -11,19 +15,35 @@ public class LombokImplicitUsageProvider implements ImplicitUsageProvider {
 
   @Override
   public boolean isImplicitUsage(PsiElement element) {
-    final Boolean userData = element.getUserData(UserMapKeys.USAGE_KEY);
-    return (null != userData && userData) || isImplicitRead(element) || isImplicitWrite(element);
+    final LombokImplicitUsageSummary usageSummary = getUsageSummary(element);
+    if (null == usageSummary) {
+      return false;
+    }
+    final PsiField psiField = (PsiField) element;
+    return usageSummary.isDelegated(psiField) || usageSummary.isImplicitRead(psiField) || usageSummary.isImplicitWrite(psiField);
   }
 
   @Override
   public boolean isImplicitRead(PsiElement element) {
-    final Boolean userData = element.getUserData(UserMapKeys.READ_KEY);
-    return null != userData && userData;
+    final LombokImplicitUsageSummary usageSummary = getUsageSummary(element);
+    return null != usageSummary && usageSummary.isImplicitRead((PsiField) element);
   }
 
   @Override
   public boolean isImplicitWrite(PsiElement element) {
-    final Boolean userData = element.getUserData(UserMapKeys.WRITE_KEY);
-    return null != userData && userData;
+    final LombokImplicitUsageSummary usageSummary = getUsageSummary(element);
+    return null != usageSummary && usageSummary.isImplicitWrite((PsiField) element);
+  }
+
+  @Nullable
+  private LombokImplicitUsageSummary getUsageSummary(PsiElement element) {
+    if (!(element instanceof PsiField) || element instanceof PsiCompiledElement) {
+      return null;
+    }
+    final PsiClass containingClass = ((PsiField) element).getContainingClass();
+    if (null == containingClass || !LombokPresentIndex.isLombokPossiblePresent(containingClass)) {
+      return null;
+    }
+    return LombokImplicitUsageSummary.getInstance(containingClass);
   }
 }
@@ -0,0 +1,176 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
+import de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel;
+import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Delegate;
+import lombok.EnumId;
+import lombok.EqualsAndHashCode;
+import lombok.FluentSetter;
+import lombok.Getter;
+import lombok.LazyGetter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.Synchronized;
+import lombok.ToString;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Names of own fields of a class, which are implicitly read or written by lombok generated code.
+ * Derived from lombok annotations only, without generating any members. Computed once and cached until the class is changed.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokImplicitUsageSummary {
+  private static final Key<CachedValue<LombokImplicitUsageSummary>> USAGE_SUMMARY_KEY = Key.create("lombok.implicit.usage.summary");
+
+  private static final String VALUE_EXPERIMENTAL = lombok.experimental.Value.class.getName();
+
+  private final Set<String> readFields = new HashSet<String>();
+  private final Set<String> writeFields = new HashSet<String>();
+  private final Set<String> delegateFields = new HashSet<String>();
+
+  private LombokImplicitUsageSummary(@NotNull PsiClass psiClass) {
+    final LombokClassModel classModel = LombokClassModel.getInstance(psiClass);
+    final Map<String, PsiAnnotation> classAnnotations = collectLombokAnnotations(psiClass);
+
+    final boolean dataClass = classAnnotations.containsKey(Data.class.getName());
+    final boolean valueClass = classAnnotations.containsKey(Value.class.getName()) || classAnnotations.containsKey(VALUE_EXPERIMENTAL);
+
+    final boolean classGetter = dataClass || valueClass || isAccessorGenerated(classAnnotations.get(Getter.class.getName()));
+    final boolean classSetter = dataClass || isAccessorGenerated(classAnnotations.get(Setter.class.getName())) || classAnnotations.containsKey(FluentSetter.class.getName());
+    final boolean classToString = dataClass || valueClass || classAnnotations.containsKey(ToString.class.getName());
+    final boolean classEqualsAndHashCode = dataClass || valueClass || classAnnotations.containsKey(EqualsAndHashCode.class.getName());
+
+    for (LombokClassModel.FieldModel fieldModel : classModel.getFields()) {
+      final String fieldName = fieldModel.getName();
+      final Map<String, PsiAnnotation> fieldAnnotations = collectLombokAnnotations(fieldModel.getPsiField());
+      final PsiAnnotation fieldGetter = fieldAnnotations.get(Getter.class.getName());
+      final PsiAnnotation fieldSetter = fieldAnnotations.get(Setter.class.getName());
+
+      if (!fieldModel.isStatic()) {
+        // field level annotation overrides class level one, AccessLevel.NONE disables generation for the field
+        final boolean getter = null == fieldGetter ? classGetter : isAccessorGenerated(fieldGetter);
+        final boolean setter = null == fieldSetter ? classSetter : isAccessorGenerated(fieldSetter);
+        if (classToString || (classEqualsAndHashCode && !fieldModel.isTransient()) || (getter && !fieldModel.isLombokIntern())) {
+          readFields.add(fieldName);
+        }
+        if (setter && !fieldModel.isDeclaredFinal() && !fieldModel.isLombokIntern()) {
+          writeFields.add(fieldName);
+        }
+      }
+
+      if (isAccessorGenerated(fieldGetter) || fieldAnnotations.containsKey(LazyGetter.class.getName())) {
+        readFields.add(fieldName);
+      }
+      if (isAccessorGenerated(fieldSetter) || fieldAnnotations.containsKey(FluentSetter.class.getName())
+          || fieldAnnotations.containsKey(EnumId.class.getName())) {
+        writeFields.add(fieldName);
+      }
+      if (fieldAnnotations.containsKey(Delegate.class.getName())) {
+        delegateFields.add(fieldName);
+        readFields.add(fieldName);
+      }
+    }
+
+    if (valueClass || classAnnotations.containsKey(AllArgsConstructor.class.getName())) {
+      addFieldNames(classModel.getNotInitializedAndNotStaticFields(), writeFields);
+    }
+    if (dataClass || classAnnotations.containsKey(RequiredArgsConstructor.class.getName())) {
+      addFieldNames(classModel.getRequiredFields(), writeFields);
+    }
+
+    for (PsiMethod psiMethod : classModel.getMethods()) {
+      final PsiAnnotation synchronizedAnnotation = collectLombokAnnotations(psiMethod).get(Synchronized.class.getName());
+      if (null != synchronizedAnnotation) {
+        final String lockFieldName = PsiAnnotationUtil.getAnnotationValue(synchronizedAnnotation, "value", String.class);
+        if (StringUtil.isNotEmpty(lockFieldName)) {
+          readFields.add(lockFieldName);
+        }
+      }
+    }
+  }
+
+  @NotNull
+  public static LombokImplicitUsageSummary getInstance(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, USAGE_SUMMARY_KEY,
+        new CachedValueProvider<LombokImplicitUsageSummary>() {
+          @Override
+          public Result<LombokImplicitUsageSummary> compute() {
+            return Result.create(new LombokImplicitUsageSummary(psiClass), psiClass);
+          }
+        }, false);
+  }
+
+  /**
+   * Collects lombok annotations of the element mapped by their qualified names, deciding them from imports where possible
+   */
+  private static Map<String, PsiAnnotation> collectLombokAnnotations(@NotNull PsiModifierListOwner psiModifierListOwner) {
+    final Map<String, PsiAnnotation> result = new HashMap<String, PsiAnnotation>();
+    final PsiModifierList modifierList = psiModifierListOwner.getModifierList();
+    if (null != modifierList) {
+      for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+        final PsiJavaCodeReferenceElement referenceElement = psiAnnotation.getNameReferenceElement();
+        final String referenceName = null == referenceElement ? null : referenceElement.getReferenceName();
+        if (null != referenceName && LombokProcessorExtensionPoint.isPossibleLombokAnnotation(referenceName)) {
+          final String qualifiedName = PsiAnnotationUtil.findQualifiedName(psiAnnotation, LombokProcessorExtensionPoint.getQualifiedNames(referenceName));
+          if (null != qualifiedName) {
+            result.put(qualifiedName, psiAnnotation);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return true if the accessor annotation is present and its access level is not AccessLevel.NONE
+   */
+  private static boolean isAccessorGenerated(@Nullable PsiAnnotation psiAnnotation) {
+    return null != psiAnnotation && null != LombokProcessorUtil.getMethodModifier(psiAnnotation);
+  }
+
+  private static void addFieldNames(@NotNull Collection<PsiField> psiFields, @NotNull Set<String> target) {
+    for (PsiField psiField : psiFields) {
+      target.add(psiField.getName());
+    }
+  }
+
+  public boolean isImplicitRead(@NotNull PsiField psiField) {
+    return readFields.contains(psiField.getName());
+  }
+
+  public boolean isImplicitWrite(@NotNull PsiField psiField) {
+    return writeFields.contains(psiField.getName());
+  }
+
+  /**
+   * @return true if methods of the field are delegated to by generated methods
+   */
+  public boolean isDelegated(@NotNull PsiField psiField) {
+    return delegateFields.contains(psiField.getName());
+  }
+}
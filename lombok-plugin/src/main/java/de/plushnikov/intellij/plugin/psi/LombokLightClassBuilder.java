@@ -1,6 +1,7 @@
 package de.plushnikov.intellij.plugin.psi;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Comparing;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -54,4 +55,32 @@ public class LombokLightClassBuilder extends LombokLightClass {
     setNavigationElement(navigationElement);
     return this;
   }
+
+  /**
+   * Generated classes are equal, if they are generated with the same qualified name and modifiers for the same containing class.
+   * Members are not compared, they are generated again together with the class
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final LombokLightClassBuilder that = (LombokLightClassBuilder) o;
+    return Comparing.equal(getQualifiedName(), that.getQualifiedName()) &&
+        Comparing.equal(getContainingClass(), that.getContainingClass()) &&
+        LombokLightModifierList.hasEqualModifiers(getModifierList(), that.getModifierList());
+  }
+
+  @Override
+  public int hashCode() {
+    final String qualifiedName = getQualifiedName();
+    int result = null != qualifiedName ? qualifiedName.hashCode() : 0;
+    final PsiClass containingClass = getContainingClass();
+    result = 31 * result + (null != containingClass ? containingClass.hashCode() : 0);
+    return result;
+  }
 }
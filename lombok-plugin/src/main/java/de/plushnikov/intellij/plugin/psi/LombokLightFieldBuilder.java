@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.psi;
 
+import com.intellij.openapi.util.Comparing;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -13,6 +14,7 @@ import com.intellij.psi.impl.light.LightModifierList;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Plushnikov Michail
@@ -42,6 +44,24 @@ public class LombokLightFieldBuilder extends LightFieldBuilder {
     return this;
   }
 
+  /**
+   * Creates the same field for another containing class, for example for the class of a non physical copy of the file
+   *
+   * @param navigationElement navigation element of the new field or null, if the new field should navigate to itself
+   */
+  @NotNull
+  public LombokLightFieldBuilder rebind(@NotNull PsiClass containingClass, @Nullable PsiElement navigationElement) {
+    final LombokLightFieldBuilder result = new LombokLightFieldBuilder(getManager(), myName, getType())
+        .withContainingClass(containingClass);
+    if (null != navigationElement) {
+      result.withNavigationElement(navigationElement);
+    }
+    for (String modifier : ((LightModifierList) getModifierList()).getModifiers()) {
+      result.withModifier(modifier);
+    }
+    return result;
+  }
+
   @NotNull
   @Override
   public String getName() {
@@ -65,6 +85,39 @@ public class LombokLightFieldBuilder extends LightFieldBuilder {
     return "LombokLightFieldBuilder: " + getName();
   }
 
+  /**
+   * Generated fields are equal, if they are generated for the same class with same name, modifiers and type.
+   * Types are compared by their canonical text, without resolving them
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final LombokLightFieldBuilder that = (LombokLightFieldBuilder) o;
+    return myName.equals(that.myName) &&
+        getType().getCanonicalText().equals(that.getType().getCanonicalText()) &&
+        Comparing.equal(getContainingClass(), that.getContainingClass()) &&
+        LombokLightModifierList.hasEqualModifiers((LightModifierList) getModifierList(), (LightModifierList) that.getModifierList());
+  }
+
+  @Override
+  public boolean isEquivalentTo(PsiElement another) {
+    return equals(another) || super.isEquivalentTo(another);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = myName.hashCode();
+    final PsiClass containingClass = getContainingClass();
+    result = 31 * result + (null != containingClass ? containingClass.hashCode() : 0);
+    return result;
+  }
+
   @Override
   public PsiElement replace(@NotNull PsiElement newElement) throws IncorrectOperationException {
     // just add new element to the containing class
@@ -2,6 +2,8 @@ package de.plushnikov.intellij.plugin.psi;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.util.Comparing;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
@@ -25,6 +27,7 @@ import com.intellij.psi.impl.light.LightModifierList;
 import com.intellij.psi.impl.light.LightParameterListBuilder;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.StringBuilderSpinAllocator;
+import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,9 +38,11 @@ import org.jetbrains.annotations.Nullable;
 public class LombokLightMethodBuilder extends LightMethodBuilder {
   private final LightIdentifier myNameIdentifier;
   private final LombokLightReferenceListBuilder myThrowsList;
-  private ASTNode myASTNode;
+  private volatile String myMethodText;
+  private volatile PsiMethod myMethodFromText;
   private String myName;
-  private PsiCodeBlock myBodyCodeBlock;
+  private volatile PsiCodeBlock myBodyCodeBlock;
+  private volatile Computable<String> myBodyTextProvider;
 
   public LombokLightMethodBuilder(@NotNull PsiManager manager, @NotNull String name) {
     super(manager, JavaLanguage.INSTANCE, name,
@@ -57,6 +62,14 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return this;
   }
 
+  /**
+   * Adds annotation, its text is built and parsed on first request of annotations of the method only
+   */
+  public LombokLightMethodBuilder withLazyAnnotation(@NotNull String qualifiedName, @NotNull Computable<String> annotationTextProvider) {
+    ((LombokLightModifierList) getModifierList()).addLazyAnnotation(qualifiedName, annotationTextProvider);
+    return this;
+  }
+
   public LombokLightMethodBuilder withMethodReturnType(PsiType returnType) {
     setMethodReturnType(returnType);
     return this;
@@ -113,8 +126,59 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return this;
   }
 
+  /**
+   * Sets provider for text of the method body. Text is built and parsed on first call of {@link #getBody()} only
+   */
+  public LombokLightMethodBuilder withLazyBody(@NotNull Computable<String> bodyTextProvider) {
+    myBodyTextProvider = bodyTextProvider;
+    return this;
+  }
+
+  /**
+   * Creates the same method for another containing class, for example for the class of a non physical copy of the file.
+   * Types, annotations and body are shared with this method
+   *
+   * @param navigationElement navigation element of the new method or null, if the new method should navigate to itself
+   */
+  @NotNull
+  public LombokLightMethodBuilder rebind(@NotNull PsiClass containingClass, @Nullable PsiElement navigationElement) {
+    final LombokLightMethodBuilder result = new LombokLightMethodBuilder(getManager(), myName)
+        .withContainingClass(containingClass)
+        .withConstructor(isConstructor());
+    if (null != navigationElement) {
+      result.withNavigationElement(navigationElement);
+    }
+    if (!isConstructor()) {
+      result.withMethodReturnType(getReturnType());
+    }
+    for (String modifier : ((LightModifierList) getModifierList()).getModifiers()) {
+      result.withModifier(modifier);
+    }
+    ((LombokLightModifierList) getModifierList()).copyAnnotationsTo((LombokLightModifierList) result.getModifierList());
+    for (PsiTypeParameter typeParameter : getTypeParameters()) {
+      result.withTypeParameter(typeParameter);
+    }
+    for (PsiParameter parameter : getParameterList().getParameters()) {
+      result.withParameter(parameter.getName(), parameter.getType());
+    }
+    for (PsiClassType exceptionType : myThrowsList.getReferencedTypes()) {
+      result.withException(exceptionType);
+    }
+    result.myBodyCodeBlock = myBodyCodeBlock;
+    result.myBodyTextProvider = myBodyTextProvider;
+    return result;
+  }
+
   @Override
   public PsiCodeBlock getBody() {
+    final Computable<String> bodyTextProvider = myBodyTextProvider;
+    if (null == myBodyCodeBlock && null != bodyTextProvider) {
+      final PsiClass containingClass = getContainingClass();
+      if (null != containingClass) {
+        myBodyCodeBlock = PsiMethodUtil.createCodeBlockFromText(bodyTextProvider.compute(), containingClass);
+        myBodyTextProvider = null;
+      }
+    }
     return myBodyCodeBlock;
   }
 
@@ -137,21 +201,33 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return containingClass != null ? containingClass.getContainingFile() : null;
   }
 
+  /**
+   * Returns source text of the method signature, built without creating any PSI
+   */
   @Override
   public String getText() {
-    ASTNode node = getNode();
-    if (null != node) {
-      return node.getText();
+    String methodText = myMethodText;
+    if (null == methodText) {
+      methodText = buildMethodText();
+      myMethodText = methodText;
     }
-    return "";
+    return methodText;
   }
 
   @Override
   public ASTNode getNode() {
-    if (null == myASTNode) {
-      myASTNode = rebuildMethodFromString().getNode();
+    return getMethodFromText().getNode();
+  }
+
+  @NotNull
+  private PsiMethod getMethodFromText() {
+    PsiMethod methodFromText = myMethodFromText;
+    if (null == methodFromText) {
+      final PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getManager().getProject()).getElementFactory();
+      methodFromText = elementFactory.createMethodFromText(getText(), getContainingClass());
+      myMethodFromText = methodFromText;
     }
-    return myASTNode;
+    return methodFromText;
   }
 
   @Override
@@ -160,7 +236,7 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return r == null ? TextRange.EMPTY_RANGE : r;
   }
 
-  private PsiMethod rebuildMethodFromString() {
+  private String buildMethodText() {
     final StringBuilder builder = StringBuilderSpinAllocator.alloc();
     try {
       builder.append(getAllModifierProperties((LightModifierList) getModifierList()));
@@ -178,9 +254,7 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
       }
       builder.append(')');
       builder.append('{').append("  ").append('}');
-
-      PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getManager().getProject()).getElementFactory();
-      return elementFactory.createMethodFromText(builder.toString(), getContainingClass());
+      return builder.toString();
     } finally {
       StringBuilderSpinAllocator.dispose(builder);
     }
@@ -201,13 +275,102 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
   }
 
   public PsiElement copy() {
-    return rebuildMethodFromString();
+    return getMethodFromText().copy();
   }
 
   public String toString() {
     return "LombokLightMethodBuilder: " + getName();
   }
 
+  /**
+   * Generated methods are equal, if they are generated for the same class with same kind, name, modifiers, type parameters,
+   * return, parameter and thrown types. So caches of the IDE keyed by methods keep working for methods generated again in a later augmentation round.
+   * Types are compared by their canonical text, without resolving them
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final LombokLightMethodBuilder that = (LombokLightMethodBuilder) o;
+    if (isConstructor() != that.isConstructor() || !myName.equals(that.myName)) {
+      return false;
+    }
+    if (!Comparing.equal(getContainingClass(), that.getContainingClass())) {
+      return false;
+    }
+    if (!LombokLightModifierList.hasEqualModifiers((LightModifierList) getModifierList(), (LightModifierList) that.getModifierList())) {
+      return false;
+    }
+    if (!Comparing.equal(getCanonicalText(getReturnType()), getCanonicalText(that.getReturnType()))) {
+      return false;
+    }
+
+    final PsiTypeParameter[] typeParameters = getTypeParameters();
+    final PsiTypeParameter[] thatTypeParameters = that.getTypeParameters();
+    if (typeParameters.length != thatTypeParameters.length) {
+      return false;
+    }
+    for (int i = 0; i < typeParameters.length; i++) {
+      if (!Comparing.equal(typeParameters[i].getName(), thatTypeParameters[i].getName()) ||
+          !hasEqualCanonicalTexts(typeParameters[i].getExtendsListTypes(), thatTypeParameters[i].getExtendsListTypes())) {
+        return false;
+      }
+    }
+
+    final PsiParameter[] parameters = getParameterList().getParameters();
+    final PsiParameter[] thatParameters = that.getParameterList().getParameters();
+    if (parameters.length != thatParameters.length) {
+      return false;
+    }
+    for (int i = 0; i < parameters.length; i++) {
+      if (!getCanonicalText(parameters[i].getType()).equals(getCanonicalText(thatParameters[i].getType()))) {
+        return false;
+      }
+    }
+    return hasEqualCanonicalTexts(myThrowsList.getReferencedTypes(), that.myThrowsList.getReferencedTypes());
+  }
+
+  private static boolean hasEqualCanonicalTexts(@NotNull PsiType[] types, @NotNull PsiType[] thatTypes) {
+    if (types.length != thatTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < types.length; i++) {
+      if (!getCanonicalText(types[i]).equals(getCanonicalText(thatTypes[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static String getCanonicalText(@Nullable PsiType psiType) {
+    return null == psiType ? null : psiType.getCanonicalText();
+  }
+
+  @Override
+  public boolean isEquivalentTo(PsiElement another) {
+    return equals(another) || super.isEquivalentTo(another);
+  }
+
+  /**
+   * Hash code doesn't depend on the name, because it can be changed by {@link #setName(String)}
+   */
+  @Override
+  public int hashCode() {
+    int result = isConstructor() ? 1 : 0;
+    result = 31 * result + getTypeParameters().length;
+    result = 31 * result + getParameterList().getParametersCount();
+    result = 31 * result + myThrowsList.getReferencedTypes().length;
+    final PsiClass containingClass = getContainingClass();
+    result = 31 * result + (null != containingClass ? containingClass.hashCode() : 0);
+    return result;
+  }
+
   @Override
   public PsiElement replace(@NotNull PsiElement newElement) throws IncorrectOperationException {
     // just add new element to the containing class
@@ -228,6 +391,8 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
   @Override
   public PsiElement setName(@NotNull String name) throws IncorrectOperationException {
     myName = name;
+    myMethodText = null;
+    myMethodFromText = null;
     return this;
   }
 
@@ -1,6 +1,7 @@
 package de.plushnikov.intellij.plugin.psi;
 
 import com.intellij.lang.Language;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiAnnotation;
@@ -18,6 +19,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Plushnikov Michail
@@ -25,11 +28,13 @@ import java.util.Set;
 public class LombokLightModifierList extends LightModifierList {
   private static final Set<String> ALL_MODIFIERS = new HashSet<String>(Arrays.asList(PsiModifier.MODIFIERS));
 
-  private final Map<String, PsiAnnotation> myAnnotations;
+  private final ConcurrentMap<String, PsiAnnotation> myAnnotations;
+  private final Map<String, Computable<String>> myLazyAnnotations;
 
   public LombokLightModifierList(PsiManager manager, final Language language, String... modifiers) {
     super(manager, language, modifiers);
-    myAnnotations = new HashMap<String, PsiAnnotation>();
+    myAnnotations = new ConcurrentHashMap<String, PsiAnnotation>();
+    myLazyAnnotations = new HashMap<String, Computable<String>>();
   }
 
   public void setModifierProperty(@PsiModifier.ModifierConstant @NotNull @NonNls String name, boolean value) throws IncorrectOperationException {
@@ -72,18 +77,42 @@ public class LombokLightModifierList extends LightModifierList {
   public PsiAnnotation addAnnotation(@NotNull @NonNls String qualifiedName) {
     final PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getProject()).getElementFactory();
     final PsiAnnotation psiAnnotation = elementFactory.createAnnotationFromText('@' + qualifiedName, null);
+    myLazyAnnotations.remove(qualifiedName);
     myAnnotations.put(qualifiedName, psiAnnotation);
     return psiAnnotation;
   }
 
+  /**
+   * Adds annotation with given qualified name, created from full annotation text including its attributes on first request
+   */
+  public void addLazyAnnotation(@NotNull @NonNls String qualifiedName, @NotNull Computable<String> annotationTextProvider) {
+    myAnnotations.remove(qualifiedName);
+    myLazyAnnotations.put(qualifiedName, annotationTextProvider);
+  }
+
   @Override
   public PsiAnnotation findAnnotation(@NotNull String qualifiedName) {
-    return myAnnotations.get(qualifiedName);
+    PsiAnnotation psiAnnotation = myAnnotations.get(qualifiedName);
+    if (null == psiAnnotation) {
+      final Computable<String> annotationTextProvider = myLazyAnnotations.get(qualifiedName);
+      if (null != annotationTextProvider) {
+        final PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getProject()).getElementFactory();
+        psiAnnotation = elementFactory.createAnnotationFromText(annotationTextProvider.compute(), null);
+        final PsiAnnotation existingAnnotation = myAnnotations.putIfAbsent(qualifiedName, psiAnnotation);
+        if (null != existingAnnotation) {
+          psiAnnotation = existingAnnotation;
+        }
+      }
+    }
+    return psiAnnotation;
   }
 
   @Override
   @NotNull
   public PsiAnnotation[] getAnnotations() {
+    for (String qualifiedName : myLazyAnnotations.keySet()) {
+      findAnnotation(qualifiedName);
+    }
     PsiAnnotation[] result = PsiAnnotation.EMPTY_ARRAY;
     if (!myAnnotations.isEmpty()) {
       Collection<PsiAnnotation> annotations = myAnnotations.values();
@@ -92,6 +121,25 @@ public class LombokLightModifierList extends LightModifierList {
     return result;
   }
 
+  /**
+   * Adds all annotations of this list to the target list, annotations not requested yet stay lazy
+   */
+  public void copyAnnotationsTo(@NotNull LombokLightModifierList target) {
+    target.myAnnotations.putAll(myAnnotations);
+    for (Map.Entry<String, Computable<String>> entry : myLazyAnnotations.entrySet()) {
+      if (!myAnnotations.containsKey(entry.getKey())) {
+        target.myLazyAnnotations.put(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Compares modifiers of both lists independent of their order, without looking at annotations
+   */
+  public static boolean hasEqualModifiers(@NotNull LightModifierList first, @NotNull LightModifierList second) {
+    return new HashSet<String>(Arrays.asList(first.getModifiers())).equals(new HashSet<String>(Arrays.asList(second.getModifiers())));
+  }
+
   @Override
   public TextRange getTextRange() {
     TextRange r = super.getTextRange();
@@ -0,0 +1,182 @@
+package de.plushnikov.intellij.plugin.starter;
+
+import com.intellij.codeInspection.ProblemHighlightType;
+import de.plushnikov.intellij.plugin.problem.LombokProblem;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Problems and per processor timing collected by {@link LombokValidationRunner}, can be filled from multiple threads.
+ * Processor timing is inclusive: it contains augmentation of other classes triggered while the processor verified an annotation.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokValidationReport {
+  private final String projectPath;
+  private final List<ProblemEntry> problems = new CopyOnWriteArrayList<ProblemEntry>();
+  private final ConcurrentMap<Processor, ProcessorTiming> timings = new ConcurrentHashMap<Processor, ProcessorTiming>();
+  private volatile int filesCount;
+  private volatile long durationNanos;
+
+  public LombokValidationReport(@NotNull String projectPath) {
+    this.projectPath = projectPath;
+  }
+
+  public void addProblem(@NotNull String filePath, int line, @NotNull Processor processor, @NotNull LombokProblem problem) {
+    problems.add(new ProblemEntry(filePath, line, processor, problem));
+  }
+
+  /**
+   * @param nanos inclusive time of one verification run of the processor
+   */
+  public void addTiming(@NotNull Processor processor, long nanos) {
+    ProcessorTiming timing = timings.get(processor);
+    if (null == timing) {
+      timing = new ProcessorTiming();
+      final ProcessorTiming existingTiming = timings.putIfAbsent(processor, timing);
+      if (null != existingTiming) {
+        timing = existingTiming;
+      }
+    }
+    timing.calls.incrementAndGet();
+    timing.nanos.addAndGet(nanos);
+  }
+
+  public void setFilesCount(int filesCount) {
+    this.filesCount = filesCount;
+  }
+
+  public void setDurationNanos(long durationNanos) {
+    this.durationNanos = durationNanos;
+  }
+
+  public int getProblemsCount() {
+    return problems.size();
+  }
+
+  /**
+   * @return true if at least one of the problems is an error
+   */
+  public boolean hasErrors() {
+    for (ProblemEntry problem : problems) {
+      if (problem.isError()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public void writeJson(@NotNull Writer writer) throws IOException {
+    writer.write("{\n");
+    writer.write("  \"project\": " + quote(projectPath) + ",\n");
+    writer.write("  \"files\": " + filesCount + ",\n");
+    writer.write("  \"durationMs\": " + TimeUnit.NANOSECONDS.toMillis(durationNanos) + ",\n");
+
+    writer.write("  \"processors\": [");
+    final List<Processor> processors = new ArrayList<Processor>(timings.keySet());
+    Collections.sort(processors, new Comparator<Processor>() {
+      @Override
+      public int compare(Processor o1, Processor o2) {
+        return o1.getClass().getName().compareTo(o2.getClass().getName());
+      }
+    });
+    for (int i = 0; i < processors.size(); i++) {
+      final Processor processor = processors.get(i);
+      final ProcessorTiming timing = timings.get(processor);
+      writer.write(i > 0 ? ",\n" : "\n");
+      writer.write("    {\"processor\": " + quote(processor.getClass().getName()) +
+          ", \"annotation\": " + quote(processor.getSupportedAnnotation()) +
+          ", \"calls\": " + timing.calls.get() +
+          ", \"inclusiveTimeMs\": " + TimeUnit.NANOSECONDS.toMillis(timing.nanos.get()) + "}");
+    }
+    writer.write(processors.isEmpty() ? "],\n" : "\n  ],\n");
+
+    writer.write("  \"problems\": [");
+    final List<ProblemEntry> sortedProblems = new ArrayList<ProblemEntry>(problems);
+    Collections.sort(sortedProblems);
+    for (int i = 0; i < sortedProblems.size(); i++) {
+      final ProblemEntry problem = sortedProblems.get(i);
+      writer.write(i > 0 ? ",\n" : "\n");
+      writer.write("    {\"file\": " + quote(problem.filePath) +
+          ", \"line\": " + problem.line +
+          ", \"annotation\": " + quote(problem.processor.getSupportedAnnotation()) +
+          ", \"processor\": " + quote(problem.processor.getClass().getName()) +
+          ", \"severity\": " + quote(problem.isError() ? "error" : "warning") +
+          ", \"message\": " + quote(problem.problem.getMessage()) + "}");
+    }
+    writer.write(sortedProblems.isEmpty() ? "]\n" : "\n  ]\n");
+    writer.write("}\n");
+  }
+
+  private static String quote(String value) {
+    final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      switch (ch) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (ch < ' ') {
+            builder.append(String.format("\\u%04x", (int) ch));
+          } else {
+            builder.append(ch);
+          }
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+  private static class ProcessorTiming {
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+  }
+
+  private static class ProblemEntry implements Comparable<ProblemEntry> {
+    private final String filePath;
+    private final int line;
+    private final Processor processor;
+    private final LombokProblem problem;
+
+    private ProblemEntry(String filePath, int line, Processor processor, LombokProblem problem) {
+      this.filePath = filePath;
+      this.line = line;
+      this.processor = processor;
+      this.problem = problem;
+    }
+
+    private boolean isError() {
+      return ProblemHighlightType.GENERIC_ERROR == problem.getHighlightType() || ProblemHighlightType.ERROR == problem.getHighlightType();
+    }
+
+    @Override
+    public int compareTo(ProblemEntry other) {
+      final int fileCompare = filePath.compareTo(other.filePath);
+      return fileCompare != 0 ? fileCompare : (line < other.line ? -1 : (line == other.line ? 0 : 1));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package de.plushnikov.intellij.plugin.starter;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.search.GlobalSearchScope;
+import de.plushnikov.intellij.plugin.extension.LombokPresentIndex;
+import de.plushnikov.intellij.plugin.inspection.LombokInspection;
+import de.plushnikov.intellij.plugin.problem.LombokProblem;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Verifies all lombok annotations of the project by their processors, without opening any editors.
+ * Files are found by {@link LombokPresentIndex} and verified concurrently, each in its own read action.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokValidationRunner {
+  private final Project project;
+
+  public LombokValidationRunner(@NotNull Project project) {
+    this.project = project;
+  }
+
+  @NotNull
+  public LombokValidationReport run() {
+    final LombokValidationReport report = new LombokValidationReport(String.valueOf(project.getBasePath()));
+    final long startTime = System.nanoTime();
+
+    final List<VirtualFile> lombokFiles = ApplicationManager.getApplication().runReadAction(new Computable<List<VirtualFile>>() {
+      @Override
+      public List<VirtualFile> compute() {
+        return new ArrayList<VirtualFile>(LombokPresentIndex.getLombokFiles(GlobalSearchScope.projectScope(project)));
+      }
+    });
+    report.setFilesCount(lombokFiles.size());
+
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(lombokFiles, new EmptyProgressIndicator(), false,
+        new com.intellij.util.Processor<VirtualFile>() {
+          @Override
+          public boolean process(final VirtualFile virtualFile) {
+            ApplicationManager.getApplication().runReadAction(new Runnable() {
+              @Override
+              public void run() {
+                if (virtualFile.isValid()) {
+                  verifyFile(psiManager.findFile(virtualFile), report);
+                }
+              }
+            });
+            return true;
+          }
+        });
+
+    report.setDurationNanos(System.nanoTime() - startTime);
+    return report;
+  }
+
+  private void verifyFile(PsiFile psiFile, @NotNull final LombokValidationReport report) {
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return;
+    }
+
+    final String filePath = psiFile.getVirtualFile().getPath();
+    final Document document = PsiDocumentManager.getInstance(project).getDocument(psiFile);
+    psiFile.accept(new JavaRecursiveElementWalkingVisitor() {
+      @Override
+      public void visitAnnotation(PsiAnnotation annotation) {
+        super.visitAnnotation(annotation);
+
+        final Collection<Processor> processors = LombokInspection.getProcessors(annotation);
+        final PsiModifierListOwner annotationOwner = processors.isEmpty() ? null : PsiAnnotationUtil.getAnnotationOwner(annotation);
+        if (null == annotationOwner) {
+          return;
+        }
+
+        final int line = null == document ? 0 : document.getLineNumber(annotation.getTextOffset()) + 1;
+        for (Processor processor : processors) {
+          final long startTime = System.nanoTime();
+          final Collection<LombokProblem> problems = processor.verifyAnnotation(annotation, annotationOwner);
+          report.addTiming(processor, System.nanoTime() - startTime);
+
+          for (LombokProblem problem : problems) {
+            report.addProblem(filePath, line, processor, problem);
+          }
+        }
+      }
+    });
+  }
+}
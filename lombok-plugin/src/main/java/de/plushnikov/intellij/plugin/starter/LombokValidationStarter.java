@@ -0,0 +1,111 @@
+package de.plushnikov.intellij.plugin.starter;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ex.ProjectManagerEx;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Headless command verifying all lombok annotations of a project and writing a JSON report with problems and processor timing.
+ * Validation runs in a pooled thread and starts after indexing of the opened project is finished.
+ * Usage: <code>lombokValidate &lt;project path&gt; &lt;report file&gt;</code>, should be started with -Djava.awt.headless=true.
+ * Exits with 0 if no errors were found, 1 if there are errors, 2 if the validation could not be run.
+ *
+ * @author Plushnikov Michail
+ */
+public class LombokValidationStarter implements ApplicationStarter {
+  private static final Logger LOG = Logger.getInstance(LombokValidationStarter.class.getName());
+
+  private static final int EXIT_OK = 0;
+  private static final int EXIT_ERRORS_FOUND = 1;
+  private static final int EXIT_FAILURE = 2;
+
+  @Override
+  public String getCommandName() {
+    return "lombokValidate";
+  }
+
+  @Override
+  public void premain(String[] args) {
+    if (args.length < 3) {
+      System.err.println("Usage: " + getCommandName() + " <project path> <report file>");
+      System.exit(EXIT_FAILURE);
+    }
+  }
+
+  @Override
+  public void main(String[] args) {
+    final String projectPath = new File(args[1]).getAbsolutePath();
+    final File reportFile = new File(args[2]);
+
+    try {
+      ApplicationManagerEx.getApplicationEx().doNotSave();
+
+      final Project project = ProjectManagerEx.getInstanceEx().loadAndOpenProject(projectPath);
+      if (null == project) {
+        System.err.println("Unable to open project " + projectPath);
+        System.exit(EXIT_FAILURE);
+      }
+      // waiting for indexing is not allowed in the event dispatch thread, which also has to stay free to finish indexing
+      ApplicationManager.getApplication().executeOnPooledThread(new Runnable() {
+        @Override
+        public void run() {
+          System.exit(validate(project, projectPath, reportFile));
+        }
+      });
+    } catch (Exception ex) {
+      LOG.error("Lombok validation failed for project " + projectPath, ex);
+      System.exit(EXIT_FAILURE);
+    }
+  }
+
+  private int validate(@NotNull final Project project, @NotNull String projectPath, @NotNull File reportFile) {
+    int exitCode = EXIT_FAILURE;
+    try {
+      try {
+        DumbService.getInstance(project).waitForSmartMode();
+        final LombokValidationReport report = new LombokValidationRunner(project).run();
+        writeReport(report, reportFile);
+        System.out.println(String.format("Lombok validation found %d problems, report written to %s",
+            report.getProblemsCount(), reportFile.getAbsolutePath()));
+        exitCode = report.hasErrors() ? EXIT_ERRORS_FOUND : EXIT_OK;
+      } finally {
+        ApplicationManager.getApplication().invokeAndWait(new Runnable() {
+          @Override
+          public void run() {
+            ProjectUtil.closeAndDispose(project);
+          }
+        }, ModalityState.defaultModalityState());
+      }
+    } catch (Exception ex) {
+      LOG.error("Lombok validation failed for project " + projectPath, ex);
+    }
+    return exitCode;
+  }
+
+  private void writeReport(LombokValidationReport report, File reportFile) throws Exception {
+    final File parentDir = reportFile.getAbsoluteFile().getParentFile();
+    if (null != parentDir && !parentDir.exists() && !parentDir.mkdirs()) {
+      throw new IllegalStateException("Unable to create directory " + parentDir);
+    }
+
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), "UTF-8"));
+    try {
+      report.writeJson(writer);
+    } finally {
+      writer.close();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeElement;
@@ -70,7 +71,7 @@ public class PsiAnnotationUtil {
     for (PsiAnnotation annotation : annotations) {
       PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
       if (referenceElement != null && shortName.equals(referenceElement.getReferenceName())) {
-        if (qualifiedName.equals(annotation.getQualifiedName())) {
+        if (hasQualifiedName(annotation, referenceElement, qualifiedName)) {
           return annotation;
         }
       }
@@ -103,8 +104,7 @@ public class PsiAnnotationUtil {
       for (PsiAnnotation annotation : annotations) {
         PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
         if (referenceElement != null && shortName.equals(referenceElement.getReferenceName())) {
-          String qualifiedName = annotationType.getName();
-          if (qualifiedName.equals(annotation.getQualifiedName())) {
+          if (hasQualifiedName(annotation, referenceElement, annotationType.getName())) {
             return true;
           }
         }
@@ -117,6 +117,91 @@ public class PsiAnnotationUtil {
     return !isAnnotatedWith(psiModifierListOwner, annotationTypes);
   }
 
+  /**
+   * Checks qualified name of the annotation using imports of its file first, resolves annotation reference only if imports are ambiguous
+   */
+  private static boolean hasQualifiedName(@NotNull PsiAnnotation annotation, @NotNull PsiJavaCodeReferenceElement referenceElement, @NotNull String qualifiedName) {
+    final Boolean fromImports = PsiFileImports.isReferenceTo(referenceElement, qualifiedName);
+    if (null != fromImports) {
+      return fromImports;
+    }
+    return qualifiedName.equals(annotation.getQualifiedName());
+  }
+
+  /**
+   * Finds which of given qualified names the annotation has, resolving annotation reference only if imports of its file are ambiguous
+   *
+   * @param qualifiedNames candidates, all with the same short name as the annotation reference
+   * @return matching qualified name or null if annotation has none of them
+   */
+  @Nullable
+  public static String findQualifiedName(@NotNull PsiAnnotation annotation, @NotNull Collection<String> qualifiedNames) {
+    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+    if (null == referenceElement) {
+      return null;
+    }
+
+    boolean ambiguous = false;
+    for (String qualifiedName : qualifiedNames) {
+      final Boolean fromImports = PsiFileImports.isReferenceTo(referenceElement, qualifiedName);
+      if (Boolean.TRUE.equals(fromImports)) {
+        return qualifiedName;
+      }
+      ambiguous |= null == fromImports;
+    }
+
+    if (ambiguous) {
+      final String qualifiedName = annotation.getQualifiedName();
+      if (null != qualifiedName && qualifiedNames.contains(qualifiedName)) {
+        return qualifiedName;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns element (class, field, method, parameter or local variable) the annotation is declared on
+   */
+  @Nullable
+  public static PsiModifierListOwner getAnnotationOwner(@NotNull PsiAnnotation annotation) {
+    final PsiElement parent = annotation.getParent();
+    if (parent instanceof PsiModifierList) {
+      final PsiElement owner = parent.getParent();
+      if (owner instanceof PsiModifierListOwner) {
+        return (PsiModifierListOwner) owner;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if all attribute values of the annotation are literals or enum constants, which don't depend on any other declaration.
+   * Values like references to constants of other classes or nested annotations (e.g. onMethod) can change without change of the annotation
+   */
+  public static boolean hasOnlyLiteralValues(@NotNull PsiAnnotation psiAnnotation) {
+    for (PsiNameValuePair nameValuePair : psiAnnotation.getParameterList().getAttributes()) {
+      if (!isLiteralValue(nameValuePair.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLiteralValue(@Nullable PsiAnnotationMemberValue memberValue) {
+    if (memberValue instanceof PsiArrayInitializerMemberValue) {
+      for (PsiAnnotationMemberValue initializer : ((PsiArrayInitializerMemberValue) memberValue).getInitializers()) {
+        if (!isLiteralValue(initializer)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (memberValue instanceof PsiReferenceExpression) {
+      return ((PsiReferenceExpression) memberValue).resolve() instanceof PsiEnumConstant;
+    }
+    return memberValue instanceof PsiLiteralExpression;
+  }
+
   public static boolean isAnnotatedWith(@NotNull PsiModifierListOwner psiModifierListOwner, @NotNull final Pattern annotationPattern) {
     final PsiModifierList psiModifierList = psiModifierListOwner.getModifierList();
     if (psiModifierList != null) {
@@ -0,0 +1,118 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of own methods of a class, used to check existence of methods without scanning all of them again for every field.
+ * Built from the same snapshot of methods as {@link de.plushnikov.intellij.plugin.processor.clazz.LombokClassModel} and cached with it.
+ *
+ * @author Plushnikov Michail
+ */
+public class PsiClassMethodIndex {
+  private final Set<String> methodNames = new HashSet<String>();
+  private final Map<String, Set<Integer>> similarMethods = new HashMap<String, Set<Integer>>();
+  private final Set<String> constructorSignatures = new HashSet<String>();
+  private final Set<String> staticMethodSignatures = new HashSet<String>();
+
+  public PsiClassMethodIndex(@NotNull Collection<PsiMethod> psiMethods) {
+    for (PsiMethod psiMethod : psiMethods) {
+      final String methodName = psiMethod.getName();
+      methodNames.add(methodName);
+
+      int parametersCount = psiMethod.getParameterList().getParametersCount();
+      if (psiMethod.isVarArgs()) {
+        parametersCount--;
+      }
+      final String similarName = StringUtil.toLowerCase(methodName);
+      Set<Integer> arities = similarMethods.get(similarName);
+      if (null == arities) {
+        arities = new HashSet<Integer>();
+        similarMethods.put(similarName, arities);
+      }
+      arities.add(parametersCount);
+
+      if (psiMethod.isConstructor()) {
+        constructorSignatures.add(getSignatureKey(psiMethod));
+      }
+      if (psiMethod.hasModifierProperty(PsiModifier.STATIC)) {
+        staticMethodSignatures.add(getSignatureKey(psiMethod));
+      }
+    }
+  }
+
+  /**
+   * @return true if class contains method with exactly this name
+   */
+  public boolean hasMethodByName(@NotNull String methodName) {
+    return methodNames.contains(methodName);
+  }
+
+  /**
+   * @return true if class contains method with exactly one of these names
+   */
+  public boolean hasMethodByName(@NotNull String... methodNames) {
+    for (String methodName : methodNames) {
+      if (hasMethodByName(methodName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same check as {@link PsiMethodUtil#hasSimilarMethod}: method name is compared ignoring case, varargs parameter is not counted
+   */
+  public boolean hasSimilarMethod(@NotNull String methodName, int methodArgCount) {
+    final Set<Integer> arities = similarMethods.get(StringUtil.toLowerCase(methodName));
+    return null != arities && arities.contains(methodArgCount);
+  }
+
+  /**
+   * @return true if class contains constructor with exactly these parameter types
+   */
+  public boolean hasConstructor(@NotNull String constructorName, @NotNull List<PsiType> paramTypes) {
+    return constructorSignatures.contains(getSignatureKey(constructorName, paramTypes));
+  }
+
+  /**
+   * @return true if class contains static method with given name and exactly these parameter types
+   */
+  public boolean hasStaticMethod(@NotNull String methodName, @NotNull List<PsiType> paramTypes) {
+    return staticMethodSignatures.contains(getSignatureKey(methodName, paramTypes));
+  }
+
+  private static String getSignatureKey(@NotNull PsiMethod psiMethod) {
+    final StringBuilder builder = new StringBuilder(psiMethod.getName()).append('(');
+    final PsiParameter[] parameters = psiMethod.getParameterList().getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(parameters[i].getType().getCanonicalText());
+    }
+    return builder.append(')').toString();
+  }
+
+  private static String getSignatureKey(@NotNull String methodName, @NotNull List<PsiType> paramTypes) {
+    final StringBuilder builder = new StringBuilder(methodName).append('(');
+    for (int i = 0; i < paramTypes.size(); i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(paramTypes.get(i).getCanonicalText());
+    }
+    return builder.append(')').toString();
+  }
+}
@@ -17,10 +17,12 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.impl.source.PsiExtensibleClass;
+import de.plushnikov.intellij.plugin.psi.LombokLightClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -59,6 +61,8 @@ public class PsiClassUtil {
   public static Collection<PsiMethod> collectClassMethodsIntern(@NotNull PsiClass psiClass) {
     if (psiClass instanceof PsiExtensibleClass) {
       return ((PsiExtensibleClass) psiClass).getOwnMethods();
+    } else if (psiClass instanceof LombokLightClass) {
+      return Arrays.asList(psiClass.getMethods());
     } else {
       return Collections2.transform(
           Collections2.filter(Lists.newArrayList(psiClass.getChildren()), Predicates.instanceOf(PsiMethod.class)),
@@ -76,6 +80,8 @@ public class PsiClassUtil {
   public static Collection<PsiField> collectClassFieldsIntern(@NotNull PsiClass psiClass) {
     if (psiClass instanceof PsiExtensibleClass) {
       return ((PsiExtensibleClass) psiClass).getOwnFields();
+    } else if (psiClass instanceof LombokLightClass) {
+      return Arrays.asList(psiClass.getFields());
     } else {
       return Collections2.transform(
           Collections2.filter(Lists.newArrayList(psiClass.getChildren()), Predicates.instanceOf(PsiField.class)),
@@ -185,6 +191,23 @@ public class PsiClassUtil {
     return result;
   }
 
+  /**
+   * Workaround to get field of the psiClass by name, without calling PsiAugmentProvider infinitely
+   *
+   * @param psiClass  psiClass to search for field
+   * @param fieldName name of the field
+   * @return intern field if found
+   */
+  @Nullable
+  public static PsiField getFieldInternByName(@NotNull PsiClass psiClass, @NotNull String fieldName) {
+    for (PsiField psiField : collectClassFieldsIntern(psiClass)) {
+      if (fieldName.equals(psiField.getName())) {
+        return psiField;
+      }
+    }
+    return null;
+  }
+
   /**
    * Workaround to get inner class of the psiClass, without calling PsiAugmentProvider infinitely
    *
@@ -136,6 +136,32 @@ public class PsiElementUtil {
     return type1Text.equals(type2Text);
   }
 
+  /**
+   * Builds key of the method signature: name and canonical text of substituted parameter types.
+   * Methods with the same key always match by {@link #methodMatches(Pair, Pair)}, but not vice versa:
+   * methodMatches accepts any type for a parameter of the first method typed as {@link PsiType#NULL}, the key compares it as text.
+   * Declared parameters never have this type, so for methods of classes the key can be used for hash based comparison.
+   *
+   * @param methodPair method with its substitutor
+   * @return signature key of the method
+   */
+  @NotNull
+  public static String getSignatureKey(@NotNull Pair<PsiMethod, PsiSubstitutor> methodPair) {
+    final PsiMethod psiMethod = methodPair.getFirst();
+    final PsiSubstitutor psiSubstitutor = methodPair.getSecond();
+
+    final StringBuilder builder = new StringBuilder(psiMethod.getName()).append('(');
+    final PsiParameter[] parameters = psiMethod.getParameterList().getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      final PsiType parameterType = psiSubstitutor.substitute(parameters[i].getType());
+      builder.append(null == parameterType ? "" : parameterType.getCanonicalText());
+    }
+    return builder.append(')').toString();
+  }
+
   public static boolean methodMatches(@NotNull Pair<PsiMethod, PsiSubstitutor> firstPair, @NotNull Pair<PsiMethod, PsiSubstitutor> secondPair) {
     final PsiMethod firstMethod = firstPair.getFirst();
     final PsiMethod secondMethod = secondPair.getFirst();
@@ -14,8 +14,8 @@ import java.util.HashSet;
  */
 public class PsiFieldUtil {
   @NotNull
-  public static Collection<PsiField> filterFieldsByModifiers(@NotNull PsiField[] psiFields, String... modifiers) {
-    Collection<PsiField> filterdFields = new ArrayList<PsiField>(psiFields.length);
+  public static Collection<PsiField> filterFieldsByModifiers(@NotNull Collection<PsiField> psiFields, String... modifiers) {
+    Collection<PsiField> filterdFields = new ArrayList<PsiField>(psiFields.size());
     for (PsiField psiField : psiFields) {
       boolean addField = true;
 
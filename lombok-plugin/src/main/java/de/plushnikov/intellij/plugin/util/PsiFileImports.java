@@ -0,0 +1,189 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnonymousClass;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Import list of a java file, used to decide which class a short reference points to without resolving it.
+ * Computed once and cached until the next structural change, because classes added to the package of the file
+ * shadow on-demand imports.
+ *
+ * @author Plushnikov Michail
+ */
+public class PsiFileImports {
+  private static final Key<CachedValue<PsiFileImports>> FILE_IMPORTS_KEY = Key.create("lombok.file.imports");
+  private static final Key<CachedValue<Set<String>>> INHERITED_MEMBER_TYPES_KEY = Key.create("lombok.inherited.member.types");
+
+  private final String packageName;
+  private final Map<String, String> singleTypeImports = new HashMap<String, String>();
+  private final Set<String> onDemandImports = new HashSet<String>();
+  private final Set<String> declaredClassNames = new HashSet<String>();
+  private final ConcurrentMap<String, Boolean> samePackageClasses = new ConcurrentHashMap<String, Boolean>();
+
+  private PsiFileImports(@NotNull PsiJavaFile javaFile) {
+    packageName = javaFile.getPackageName();
+
+    final PsiImportList importList = javaFile.getImportList();
+    if (null != importList) {
+      for (PsiImportStatement importStatement : importList.getImportStatements()) {
+        final String qualifiedName = importStatement.getQualifiedName();
+        if (null != qualifiedName) {
+          if (importStatement.isOnDemand()) {
+            onDemandImports.add(qualifiedName);
+          } else {
+            singleTypeImports.put(StringUtil.getShortName(qualifiedName), qualifiedName);
+          }
+        }
+      }
+    }
+
+    for (PsiClass psiClass : javaFile.getClasses()) {
+      collectClassNames(psiClass);
+    }
+  }
+
+  private void collectClassNames(@NotNull PsiClass psiClass) {
+    declaredClassNames.add(psiClass.getName());
+    for (PsiClass innerClass : PsiClassUtil.collectInnerClassesIntern(psiClass)) {
+      collectClassNames(innerClass);
+    }
+  }
+
+  @NotNull
+  public static PsiFileImports getInstance(@NotNull final PsiJavaFile javaFile) {
+    return CachedValuesManager.getManager(javaFile.getProject()).getCachedValue(javaFile, FILE_IMPORTS_KEY,
+        new CachedValueProvider<PsiFileImports>() {
+          @Override
+          public Result<PsiFileImports> compute() {
+            return Result.create(new PsiFileImports(javaFile), javaFile, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  /**
+   * Checks if the reference points to the class with given qualified name, using only the import list of the file.
+   * Reference name should already be equal to the short name of the class.
+   * Member types declared in the file or inherited from supertypes of enclosing classes are never decided from imports.
+   *
+   * @return TRUE or FALSE if it can be decided from imports, null if the reference has to be resolved
+   */
+  @Nullable
+  public static Boolean isReferenceTo(@NotNull PsiJavaCodeReferenceElement referenceElement, @NotNull String qualifiedName) {
+    if (referenceElement.isQualified()) {
+      // fully qualified usage
+      final String referenceText = StringUtil.replace(referenceElement.getText(), " ", "");
+      return qualifiedName.equals(referenceText) ? Boolean.TRUE : null;
+    }
+
+    final PsiFile psiFile = referenceElement.getContainingFile();
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return null;
+    }
+
+    final PsiFileImports fileImports = getInstance((PsiJavaFile) psiFile);
+    final String shortName = StringUtil.getShortName(qualifiedName);
+    if (fileImports.declaredClassNames.contains(shortName)) {
+      // shadowed by a class declared in the same file
+      return null;
+    }
+
+    if (hasInheritedMemberType(referenceElement, shortName)) {
+      // member type inherited from a supertype shadows all imports
+      return null;
+    }
+
+    final String singleTypeImport = fileImports.singleTypeImports.get(shortName);
+    if (null != singleTypeImport) {
+      return singleTypeImport.equals(qualifiedName);
+    }
+
+    final String classPackageName = StringUtil.getPackageName(qualifiedName);
+    if (fileImports.packageName.equals(classPackageName)) {
+      return null;
+    }
+    if (fileImports.onDemandImports.contains(classPackageName)) {
+      // class of the same package shadows on-demand imports, other on-demand imports of the same name would be ambiguous
+      return !fileImports.hasClassInPackage(psiFile, shortName);
+    }
+    return Boolean.FALSE;
+  }
+
+  private static boolean hasInheritedMemberType(@NotNull PsiElement psiElement, @NotNull String shortName) {
+    PsiClass psiClass = PsiTreeUtil.getParentOfType(psiElement, PsiClass.class);
+    while (null != psiClass) {
+      if (getInheritedMemberTypeNames(psiClass).contains(shortName)) {
+        return true;
+      }
+      psiClass = PsiTreeUtil.getParentOfType(psiClass, PsiClass.class);
+    }
+    return false;
+  }
+
+  /**
+   * Collects names of own inner classes of all supertypes of the class, without augmenting them.
+   * Computed once and cached until the next structural change
+   */
+  @NotNull
+  private static Set<String> getInheritedMemberTypeNames(@NotNull final PsiClass psiClass) {
+    if (!(psiClass instanceof PsiAnonymousClass) && psiClass.getExtendsListTypes().length == 0 && psiClass.getImplementsListTypes().length == 0) {
+      return Collections.emptySet();
+    }
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, INHERITED_MEMBER_TYPES_KEY,
+        new CachedValueProvider<Set<String>>() {
+          @Override
+          public Result<Set<String>> compute() {
+            final Set<String> result = new HashSet<String>();
+            collectMemberTypeNames(psiClass.getSupers(), result, new HashSet<PsiClass>());
+            return Result.create(result, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  private static void collectMemberTypeNames(@NotNull PsiClass[] psiClasses, @NotNull Set<String> target, @NotNull Set<PsiClass> visited) {
+    for (PsiClass psiClass : psiClasses) {
+      if (visited.add(psiClass)) {
+        for (PsiClass innerClass : PsiClassUtil.collectInnerClassesIntern(psiClass)) {
+          target.add(innerClass.getName());
+        }
+        collectMemberTypeNames(psiClass.getSupers(), target, visited);
+      }
+    }
+  }
+
+  /**
+   * Looks up a class with given name in the package of the file once per file and name
+   */
+  private boolean hasClassInPackage(@NotNull PsiFile psiFile, @NotNull String shortName) {
+    Boolean result = samePackageClasses.get(shortName);
+    if (null == result) {
+      final String qualifiedName = StringUtil.isEmpty(packageName) ? shortName : packageName + '.' + shortName;
+      result = null != JavaPsiFacade.getInstance(psiFile.getProject()).findClass(qualifiedName, psiFile.getResolveScope());
+      samePackageClasses.put(shortName, result);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,26 @@
+class RequiredArgsConstructorPackage {
+	final int x;
+	String name;
+	@java.beans.ConstructorProperties({"x"})
+	@java.lang.SuppressWarnings("all")
+	RequiredArgsConstructorPackage(final int x) {
+		this.x = x;
+	}
+}
+class AllArgsConstructorPackage {
+	final int x;
+	String name;
+	@java.beans.ConstructorProperties({"x", "name"})
+	@java.lang.SuppressWarnings("all")
+	AllArgsConstructorPackage(final int x, final String name) {
+		this.x = x;
+		this.name = name;
+	}
+}
+class NoArgsConstructorPackage {
+	int x;
+	String name;
+	@java.lang.SuppressWarnings("all")
+	NoArgsConstructorPackage() {
+	}
+}
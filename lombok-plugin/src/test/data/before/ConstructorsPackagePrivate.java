@@ -0,0 +1,12 @@
+@lombok.RequiredArgsConstructor(access=lombok.AccessLevel.PACKAGE) class RequiredArgsConstructorPackage {
+	final int x;
+	String name;
+}
+@lombok.AllArgsConstructor(access=lombok.AccessLevel.PACKAGE) class AllArgsConstructorPackage {
+	final int x;
+	String name;
+}
+@lombok.NoArgsConstructor(access=lombok.AccessLevel.PACKAGE) class NoArgsConstructorPackage {
+	int x;
+	String name;
+}
@@ -0,0 +1,10 @@
+import custom.Setter;
+import lombok.*;
+
+public class Test {
+  @Setter
+  private final int customAnnotation = 1;
+
+  @lombok.Setter
+  private final int lombokAnnotation = 2;
+}
@@ -0,0 +1,4 @@
+package custom;
+
+public @interface Setter {
+}
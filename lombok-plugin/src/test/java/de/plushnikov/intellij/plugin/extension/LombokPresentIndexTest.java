@@ -0,0 +1,43 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.Collection;
+
+/**
+ * Tests for the file filter based on {@link LombokPresentIndex}
+ */
+public class LombokPresentIndexTest extends LombokLightCodeInsightTestCase {
+
+  public void testFileWithLombokImport() {
+    final PsiFile psiFile = myFixture.addFileToProject("WithImport.java",
+        "import lombok.Getter;\npublic class WithImport {\n  @Getter private int x;\n}");
+    assertTrue(LombokPresentIndex.isLombokPossiblePresent(psiFile));
+  }
+
+  public void testFileWithQualifiedAnnotation() {
+    final PsiFile psiFile = myFixture.addFileToProject("WithQualified.java",
+        "@lombok.Data\npublic class WithQualified {\n  private int x;\n}");
+    assertTrue(LombokPresentIndex.isLombokPossiblePresent(psiFile));
+  }
+
+  public void testFileWithoutLombok() {
+    final PsiFile psiFile = myFixture.addFileToProject("WithoutLombok.java",
+        "public class WithoutLombok {\n  @Deprecated private int x;\n}");
+    assertFalse(LombokPresentIndex.isLombokPossiblePresent(psiFile));
+  }
+
+  public void testLombokFilesOfProject() {
+    final PsiFile lombokFile = myFixture.addFileToProject("LombokFile.java",
+        "import lombok.Setter;\npublic class LombokFile {\n  @Setter private int x;\n}");
+    final PsiFile plainFile = myFixture.addFileToProject("PlainFile.java",
+        "public class PlainFile {\n  private int x;\n}");
+
+    final Collection<VirtualFile> lombokFiles = LombokPresentIndex.getLombokFiles(GlobalSearchScope.projectScope(getProject()));
+    assertTrue(lombokFiles.contains(lombokFile.getVirtualFile()));
+    assertFalse(lombokFiles.contains(plainFile.getVirtualFile()));
+  }
+}
@@ -0,0 +1,100 @@
+package de.plushnikov.intellij.plugin.processor;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import de.plushnikov.intellij.plugin.problem.LombokProblem;
+import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.field.AbstractFieldProcessor;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tests for the validation result cached on annotations by {@link AbstractProcessor}
+ */
+public class ValidationCacheTest extends LombokLightCodeInsightTestCase {
+  private PsiClass psiClass;
+  private PsiField psiField;
+  private PsiAnnotation psiAnnotation;
+  private CountingProcessor processor;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    psiClass = myFixture.addClass("public class ValidatedClass {\n  @lombok.Getter private int x;\n}");
+    psiField = psiClass.findFieldByName("x", false);
+    psiAnnotation = psiField.getModifierList().findAnnotation(Getter.class.getName());
+    processor = new CountingProcessor();
+  }
+
+  public void testVerifyAnnotationValidatesOnce() {
+    final Collection<LombokProblem> problems = processor.verifyAnnotation(psiAnnotation, psiField);
+    assertEquals(1, problems.size());
+    assertSame(problems, processor.verifyAnnotation(psiAnnotation, psiField));
+    assertEquals(1, processor.validations.size());
+    assertTrue(processor.validations.get(0));
+  }
+
+  public void testProcessReusesCachedVerdict() {
+    processor.verifyAnnotation(psiAnnotation, psiField);
+    processor.process(psiClass);
+    processor.process(psiClass);
+    assertEquals(1, processor.validations.size());
+    assertEquals(2, processor.generations);
+  }
+
+  public void testProcessRecordsProblemsForInspection() {
+    processor.process(psiClass);
+    processor.process(psiClass);
+    assertEquals(1, processor.validations.size());
+    assertTrue(processor.validations.get(0));
+
+    assertEquals(1, processor.verifyAnnotation(psiAnnotation, psiField).size());
+    assertEquals(1, processor.validations.size());
+  }
+
+  public void testStructuralChangeInvalidatesResult() {
+    final Collection<LombokProblem> problems = processor.verifyAnnotation(psiAnnotation, psiField);
+
+    ApplicationManager.getApplication().runWriteAction(new Runnable() {
+      @Override
+      public void run() {
+        psiClass.add(JavaPsiFacade.getElementFactory(getProject()).createField("y", PsiType.INT));
+      }
+    });
+
+    assertNotSame(problems, processor.verifyAnnotation(psiAnnotation, psiField));
+    assertEquals(2, processor.validations.size());
+  }
+
+  private static class CountingProcessor extends AbstractFieldProcessor {
+    private final List<Boolean> validations = new ArrayList<Boolean>();
+    private int generations;
+
+    private CountingProcessor() {
+      super(Getter.class, PsiMethod.class);
+    }
+
+    @Override
+    protected boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiField psiField, @NotNull ProblemBuilder builder) {
+      validations.add(builder.isCollecting());
+      builder.addWarning("Validated");
+      return true;
+    }
+
+    @Override
+    protected void generatePsiElements(@NotNull PsiField psiField, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
+      generations++;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+/**
+ * Tests for reuse of generated members of the original class for classes of non physical file copies
+ */
+public class LombokCompletionCopySupportTest extends LombokLightCodeInsightTestCase {
+  private PsiClass originalClass;
+  private PsiClass copyClass;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    final PsiJavaFile originalFile = (PsiJavaFile) myFixture.addFileToProject("CopiedClass.java",
+        "public class CopiedClass {\n  @lombok.Getter private int x;\n  public void foo() {\n  }\n}");
+    originalClass = originalFile.getClasses()[0];
+    copyClass = ((PsiJavaFile) originalFile.copy()).getClasses()[0];
+  }
+
+  public void testUnchangedCopyReusesOriginal() {
+    assertSame(originalClass, LombokCompletionCopySupport.getUnchangedOriginalOrSelf(copyClass));
+    assertSame(originalClass, LombokCompletionCopySupport.getUnchangedOriginalOrSelf(originalClass));
+
+    final PsiMethod[] getters = copyClass.findMethodsByName("getX", false);
+    assertEquals(1, getters.length);
+    assertSame(copyClass, getters[0].getContainingClass());
+    assertSame(PsiClassUtil.getFieldInternByName(copyClass, "x"), getters[0].getNavigationElement());
+  }
+
+  public void testChangedCopyIsProcessedOnItsOwn() {
+    ApplicationManager.getApplication().runWriteAction(new Runnable() {
+      @Override
+      public void run() {
+        copyClass.add(JavaPsiFacade.getElementFactory(getProject()).createField("y", PsiType.INT));
+      }
+    });
+    assertSame(copyClass, LombokCompletionCopySupport.getUnchangedOriginalOrSelf(copyClass));
+
+    final PsiMethod[] getters = copyClass.findMethodsByName("getX", false);
+    assertEquals(1, getters.length);
+    assertSame(copyClass, getters[0].getContainingClass());
+  }
+}
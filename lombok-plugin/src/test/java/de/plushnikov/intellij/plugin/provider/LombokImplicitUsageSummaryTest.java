@@ -0,0 +1,114 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+/**
+ * Tests for fields implicitly read or written by lombok generated code
+ */
+public class LombokImplicitUsageSummaryTest extends LombokLightCodeInsightTestCase {
+
+  private PsiField findField(PsiClass psiClass, String fieldName) {
+    final PsiField psiField = psiClass.findFieldByName(fieldName, false);
+    assertNotNull(psiField);
+    return psiField;
+  }
+
+  public void testFieldAccessors() {
+    final PsiClass psiClass = myFixture.addClass("public class FieldAccessors {\n" +
+        "  @lombok.Getter private int read;\n" +
+        "  @lombok.Setter private int write;\n" +
+        "  private int unused;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertTrue(summary.isImplicitRead(findField(psiClass, "read")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "read")));
+    assertTrue(summary.isImplicitWrite(findField(psiClass, "write")));
+    assertFalse(summary.isImplicitRead(findField(psiClass, "write")));
+    assertFalse(summary.isImplicitRead(findField(psiClass, "unused")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "unused")));
+  }
+
+  public void testFieldAccessorsWithAccessLevelNone() {
+    final PsiClass psiClass = myFixture.addClass("public class FieldAccessorsNone {\n" +
+        "  @lombok.Getter(lombok.AccessLevel.NONE) private int read;\n" +
+        "  @lombok.Setter(lombok.AccessLevel.NONE) private int write;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertFalse(summary.isImplicitRead(findField(psiClass, "read")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "write")));
+  }
+
+  public void testClassAccessors() {
+    final PsiClass psiClass = myFixture.addClass("@lombok.Getter @lombok.Setter\n" +
+        "public class ClassAccessors {\n" +
+        "  private int value;\n" +
+        "  private final int constant = 1;\n" +
+        "  private static int shared;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertTrue(summary.isImplicitRead(findField(psiClass, "value")));
+    assertTrue(summary.isImplicitWrite(findField(psiClass, "value")));
+    assertTrue(summary.isImplicitRead(findField(psiClass, "constant")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "constant")));
+    assertFalse(summary.isImplicitRead(findField(psiClass, "shared")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "shared")));
+  }
+
+  public void testClassAccessorsWithAccessLevelNone() {
+    final PsiClass psiClass = myFixture.addClass("@lombok.Getter(lombok.AccessLevel.NONE) @lombok.Setter(lombok.AccessLevel.NONE)\n" +
+        "public class ClassAccessorsNone {\n" +
+        "  private int value;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertFalse(summary.isImplicitRead(findField(psiClass, "value")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "value")));
+  }
+
+  public void testFieldAccessLevelNoneOverridesClassAccessors() {
+    final PsiClass psiClass = myFixture.addClass("@lombok.Getter @lombok.Setter\n" +
+        "public class ClassAccessorsExcluded {\n" +
+        "  @lombok.Getter(lombok.AccessLevel.NONE) @lombok.Setter(lombok.AccessLevel.NONE) private int hidden;\n" +
+        "  private int visible;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertFalse(summary.isImplicitRead(findField(psiClass, "hidden")));
+    assertFalse(summary.isImplicitWrite(findField(psiClass, "hidden")));
+    assertTrue(summary.isImplicitRead(findField(psiClass, "visible")));
+    assertTrue(summary.isImplicitWrite(findField(psiClass, "visible")));
+  }
+
+  public void testDataClass() {
+    final PsiClass psiClass = myFixture.addClass("@lombok.Data\n" +
+        "public class DataClass {\n" +
+        "  private final int id;\n" +
+        "  private transient int cache;\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertTrue(summary.isImplicitRead(findField(psiClass, "id")));
+    assertTrue(summary.isImplicitWrite(findField(psiClass, "id")));
+    assertTrue(summary.isImplicitRead(findField(psiClass, "cache")));
+    assertTrue(summary.isImplicitWrite(findField(psiClass, "cache")));
+  }
+
+  public void testDelegateAndSynchronized() {
+    final PsiClass psiClass = myFixture.addClass("public class DelegateAndLock {\n" +
+        "  @lombok.Delegate private java.lang.Runnable runnable;\n" +
+        "  private final Object lock = new Object();\n" +
+        "  @lombok.Synchronized(\"lock\") public void run() {}\n" +
+        "}");
+    final LombokImplicitUsageSummary summary = LombokImplicitUsageSummary.getInstance(psiClass);
+
+    assertTrue(summary.isDelegated(findField(psiClass, "runnable")));
+    assertTrue(summary.isImplicitRead(findField(psiClass, "runnable")));
+    assertTrue(summary.isImplicitRead(findField(psiClass, "lock")));
+    assertFalse(summary.isDelegated(findField(psiClass, "lock")));
+  }
+}
@@ -0,0 +1,104 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.openapi.util.Computable;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for equality and lazy parts of generated light members
+ */
+public class LombokLightMethodBuilderTest extends LombokLightCodeInsightTestCase {
+  private PsiClass psiClass;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    psiClass = myFixture.addClass("public class LightMembers {\n  private int x;\n}");
+  }
+
+  private LombokLightMethodBuilder createMethod(PsiType returnType, String modifier, PsiType parameterType) {
+    return new LombokLightMethodBuilder(psiClass.getManager(), "getX")
+        .withContainingClass(psiClass)
+        .withMethodReturnType(returnType)
+        .withModifier(modifier)
+        .withParameter("value", parameterType);
+  }
+
+  private PsiType createType(String typeText) {
+    return JavaPsiFacade.getElementFactory(getProject()).createTypeFromText(typeText, psiClass);
+  }
+
+  public void testMethodsWithSameSignatureAreEqual() {
+    final LombokLightMethodBuilder method1 = createMethod(PsiType.INT, PsiModifier.PUBLIC, createType("java.lang.String"));
+    final LombokLightMethodBuilder method2 = createMethod(PsiType.INT, PsiModifier.PUBLIC, createType("java.lang.String"));
+    assertEquals(method1, method2);
+    assertEquals(method1.hashCode(), method2.hashCode());
+    assertTrue(method1.isEquivalentTo(method2));
+  }
+
+  public void testMethodsWithDifferentReturnTypeAreNotEqual() {
+    final LombokLightMethodBuilder method1 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT);
+    final LombokLightMethodBuilder method2 = createMethod(PsiType.LONG, PsiModifier.PUBLIC, PsiType.INT);
+    assertFalse(method1.equals(method2));
+  }
+
+  public void testMethodsWithDifferentModifiersAreNotEqual() {
+    final LombokLightMethodBuilder method1 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT);
+    final LombokLightMethodBuilder method2 = createMethod(PsiType.INT, PsiModifier.PROTECTED, PsiType.INT);
+    assertFalse(method1.equals(method2));
+  }
+
+  public void testMethodsWithDifferentParameterTypesAreNotEqual() {
+    final LombokLightMethodBuilder method1 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT);
+    final LombokLightMethodBuilder method2 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.LONG);
+    assertFalse(method1.equals(method2));
+  }
+
+  public void testFieldsWithUnresolvedTypeAreEqual() {
+    final LombokLightFieldBuilder field1 = new LombokLightFieldBuilder(psiClass.getManager(), "field", createType("UnknownType"))
+        .withContainingClass(psiClass).withModifier(PsiModifier.PRIVATE);
+    final LombokLightFieldBuilder field2 = new LombokLightFieldBuilder(psiClass.getManager(), "field", createType("UnknownType"))
+        .withContainingClass(psiClass).withModifier(PsiModifier.PRIVATE);
+    final LombokLightFieldBuilder field3 = new LombokLightFieldBuilder(psiClass.getManager(), "field", createType("UnknownType"))
+        .withContainingClass(psiClass).withModifier(PsiModifier.PRIVATE).withModifier(PsiModifier.STATIC);
+    assertEquals(field1, field2);
+    assertFalse(field1.equals(field3));
+  }
+
+  public void testLazyAnnotationIsParsedOnRequestOnly() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LombokLightMethodBuilder method = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT)
+        .withLazyAnnotation("java.lang.Deprecated", new Computable<String>() {
+          @Override
+          public String compute() {
+            calls.incrementAndGet();
+            return "@java.lang.Deprecated";
+          }
+        });
+    assertEquals(0, calls.get());
+
+    assertNotNull(method.getModifierList().findAnnotation("java.lang.Deprecated"));
+    assertEquals(1, method.getModifierList().getAnnotations().length);
+    assertEquals(1, calls.get());
+  }
+
+  public void testMethodsWithDifferentExceptionsAreNotEqual() {
+    final LombokLightMethodBuilder method1 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT);
+    final LombokLightMethodBuilder method2 = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT)
+        .withException((PsiClassType) createType("java.io.IOException"));
+    assertFalse(method1.equals(method2));
+  }
+
+  public void testRenamedMethodKeepsHashCode() {
+    final LombokLightMethodBuilder method = createMethod(PsiType.INT, PsiModifier.PUBLIC, PsiType.INT);
+    final int hashCode = method.hashCode();
+    method.setName("getY");
+    assertEquals(hashCode, method.hashCode());
+  }
+}
@@ -24,4 +24,8 @@ public class InspectionTest extends InspectionTestCase {
   public void testBuilderonrighttype() throws Exception {
     doTest();
   }
+
+  public void testCustomannotation() throws Exception {
+    doTest();
+  }
 }
@@ -1,5 +1,8 @@
 package de.plushnikov.lombok.tests;
 
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
 import de.plushnikov.lombok.LombokParsingTestCase;
 
 import java.io.IOException;
@@ -17,4 +20,19 @@ public class ConstructorTestCase extends LombokParsingTestCase {
   public void testConflictingStaticConstructorNames() throws IOException {
     doTest();
   }
+
+  public void testConstructorsPackagePrivate() throws IOException {
+    doTest();
+  }
+
+  public void testConstructorsPackagePrivateModifiers() {
+    final PsiClass constructorClass = myFixture.addClass("@lombok.RequiredArgsConstructor(access=lombok.AccessLevel.PACKAGE)\n" +
+        "public class PackageConstructor {\n  private final int x;\n}");
+
+    final PsiMethod[] constructors = constructorClass.getConstructors();
+    assertEquals(1, constructors.length);
+    assertTrue(constructors[0].hasModifierProperty(PsiModifier.PACKAGE_LOCAL));
+    assertFalse(constructors[0].hasModifierProperty(PsiModifier.PUBLIC));
+    assertNotNull(constructors[0].getModifierList().findAnnotation("java.beans.ConstructorProperties"));
+  }
 }